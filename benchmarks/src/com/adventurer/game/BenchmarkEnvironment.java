@@ -0,0 +1,20 @@
+package com.adventurer.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.backends.headless.HeadlessNativesLoader;
+import com.badlogic.gdx.backends.headless.mock.audio.MockAudio;
+
+public class BenchmarkEnvironment {
+
+    private static boolean initialized;
+
+    public static synchronized void init() {
+        if (initialized)
+            return;
+        HeadlessNativesLoader.load();
+        Gdx.files = new HeadlessFiles();
+        Gdx.audio = new MockAudio();
+        initialized = true;
+    }
+}
@@ -0,0 +1,128 @@
+package com.adventurer.game;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import helper.BodyHelper;
+import helper.BoundsStore;
+import helper.MapObjectRegistry;
+import objects.elements.Ground;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+import static helper.Constants.PIXELS_PER_METER;
+import static helper.Constants.SPATIAL_QUERY_MARGIN;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    private static final int OBJECT_SIZE = 32;
+    private static final int OBJECT_SPACING = 48;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int objectCount;
+
+    private World world;
+    private Body[] bodies;
+    private BoundsStore boundsStore;
+    private MapObjectRegistry<Ground> grounds;
+    private int probeSlot;
+    private Polygon probePolygon;
+    private final Rectangle probeArea = new Rectangle();
+    private final Rectangle bounds = new Rectangle();
+    private final Array<Ground> nearbyGrounds = new Array<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkEnvironment.init();
+        world = new World(new Vector2(0, -50f), false);
+        int columns = (int) Math.ceil(Math.sqrt(objectCount));
+        float worldSize = columns * OBJECT_SPACING;
+        boundsStore = new BoundsStore(objectCount + 1);
+        grounds = new MapObjectRegistry<>(boundsStore, worldSize, worldSize);
+        bodies = new Body[objectCount];
+        Dimension dimension = new Dimension(OBJECT_SIZE, OBJECT_SIZE);
+        for (int i = 0; i < objectCount; i++) {
+            float x = (i % columns) * OBJECT_SPACING;
+            float y = (i / columns) * OBJECT_SPACING;
+            Ground ground = new Ground(new Vector2(x / PIXELS_PER_METER, y / PIXELS_PER_METER), dimension);
+            ground.setBody(BodyHelper.createBody(new Vector2(x + OBJECT_SIZE / 2.0f, y + OBJECT_SIZE / 2.0f), dimension, true, true, world, ground));
+            bodies[i] = ground.getBody();
+            grounds.add(ground);
+        }
+
+        float center = worldSize / 2.0f;
+        probeArea.set(center - 15, center - 31, 30, 62);
+        probeSlot = boundsStore.add();
+        boundsStore.set(probeSlot, probeArea);
+        probePolygon = new Polygon(new float[] {
+                probeArea.x, probeArea.y,
+                probeArea.x, probeArea.y + probeArea.height,
+                probeArea.x + probeArea.width, probeArea.y + probeArea.height,
+                probeArea.x + probeArea.width, probeArea.y
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public void getBodyVertices(Blackhole blackhole) {
+        for (Body body : bodies) {
+            blackhole.consume(BodyHelper.getBodyVertices(body));
+        }
+    }
+
+    @Benchmark
+    public void getBodyBounds(Blackhole blackhole) {
+        for (Body body : bodies) {
+            blackhole.consume(BodyHelper.getBodyBounds(body, bounds));
+        }
+    }
+
+    @Benchmark
+    public int intersectorOverlap() {
+        int overlaps = 0;
+        for (Body body : bodies) {
+            if (Intersector.overlapConvexPolygons(probePolygon, new Polygon(BodyHelper.getBodyVertices(body))))
+                overlaps++;
+        }
+        return overlaps;
+    }
+
+    @Benchmark
+    public int boundsStoreOverlap() {
+        int overlaps = 0;
+        for (int i = 0; i < objectCount; i++) {
+            if (boundsStore.overlaps(probeSlot, grounds.getObjects().get(i).getBoundsSlot()))
+                overlaps++;
+        }
+        return overlaps;
+    }
+
+    @Benchmark
+    public int spatialGridQuery() {
+        bounds.set(probeArea.x - SPATIAL_QUERY_MARGIN, probeArea.y - SPATIAL_QUERY_MARGIN, probeArea.width + 2 * SPATIAL_QUERY_MARGIN, probeArea.height + 2 * SPATIAL_QUERY_MARGIN);
+        grounds.query(bounds, nearbyGrounds);
+        int overlaps = 0;
+        for (int i = 0; i < nearbyGrounds.size; i++) {
+            if (boundsStore.overlaps(probeSlot, nearbyGrounds.get(i).getBoundsSlot()))
+                overlaps++;
+        }
+        return overlaps;
+    }
+}
@@ -0,0 +1,75 @@
+package com.adventurer.game;
+
+import com.badlogic.gdx.math.Vector2;
+import helper.CustomInputProcessor;
+import levels.GameLevel;
+import objects.elements.Box;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelUpdateBenchmark {
+
+    private static final int BOX_SIZE = 32;
+    private static final float SPAWN_CLEARANCE = 256;
+
+    @Param({"5"})
+    public int levelId;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int objectCount;
+
+    private GameScreen gameScreen;
+    private GameLevel level;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkEnvironment.init();
+        gameScreen = new GameScreen(levelId, new CustomInputProcessor());
+        level = gameScreen.getLevel();
+
+        float mapWidth = level.getMap().getProperties().get("width", Integer.class) * level.getMap().getProperties().get("tilewidth", Integer.class);
+        float mapHeight = level.getMap().getProperties().get("height", Integer.class) * level.getMap().getProperties().get("tileheight", Integer.class);
+        float spacing = Math.max(1, (float) Math.sqrt(mapWidth * mapHeight / objectCount));
+        int columns = Math.max(1, (int) (mapWidth / spacing));
+        Vector2 spawn = new Vector2(level.getAdventurer().getX(), level.getAdventurer().getY());
+        Dimension dimension = new Dimension(BOX_SIZE, BOX_SIZE);
+        for (int i = 0, placed = 0; placed < objectCount; i++) {
+            Vector2 position = new Vector2((i % columns) * spacing + BOX_SIZE / 2.0f, ((i / columns) * spacing) % mapHeight + BOX_SIZE / 2.0f);
+            if (position.dst(spawn) < SPAWN_CLEARANCE)
+                continue;
+            Box box = level.addBox(new Box(position, dimension, gameScreen.getWorld()));
+            box.getBody().setAwake(false);
+            placed++;
+        }
+        level.captureInitialState();
+        level.publishRenderState();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gameScreen.getWorld().dispose();
+    }
+
+    @Benchmark
+    public void update() {
+        level.update();
+    }
+
+    @Benchmark
+    public void publishRenderState() {
+        level.publishRenderState();
+    }
+
+    @Benchmark
+    public void tick() {
+        gameScreen.tick();
+    }
+}
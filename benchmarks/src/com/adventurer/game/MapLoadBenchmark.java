@@ -0,0 +1,64 @@
+package com.adventurer.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import helper.CustomInputProcessor;
+import helper.HeadlessTmxMapLoader;
+import helper.LevelData;
+import helper.LevelDataLoader;
+import helper.MapHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapLoadBenchmark {
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int levelId;
+
+    @State(Scope.Thread)
+    public static class LevelState {
+
+        private GameScreen gameScreen;
+
+        @Setup(Level.Invocation)
+        public void setup(MapLoadBenchmark benchmark) {
+            BenchmarkEnvironment.init();
+            gameScreen = new GameScreen(benchmark.levelId, new CustomInputProcessor());
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            gameScreen.getWorld().dispose();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkEnvironment.init();
+    }
+
+    @Benchmark
+    public LevelData parseTmx() {
+        TiledMap map = new HeadlessTmxMapLoader().load("Maps/Level" + levelId + ".tmx");
+        return new LevelData(map, LevelData.extractShapes(map.getLayers().get("objects").getObjects()));
+    }
+
+    @Benchmark
+    public LevelData loadCompiledLevel() {
+        return LevelDataLoader.load(Gdx.files.internal(LevelData.assetName(levelId)));
+    }
+
+    @Benchmark
+    public TiledMap createBodiesFromCachedLevel(LevelState state) {
+        MapHelper mapHelper = new MapHelper(state.gameScreen.getLevel());
+        mapHelper.setupMap("Maps/Level" + levelId + ".tmx");
+        return mapHelper.getTiledMap();
+    }
+}
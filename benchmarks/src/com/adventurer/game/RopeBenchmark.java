@@ -0,0 +1,63 @@
+package com.adventurer.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import objects.elements.Rope;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RopeBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int objectCount;
+
+    private World world;
+    private Rope rope;
+    private Body firstPart;
+    private Body middlePart;
+    private Body lastPart;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkEnvironment.init();
+        world = new World(new Vector2(0, -50f), false);
+        rope = new Rope(world, new Vector2(0, objectCount * 16 + 32), new Dimension(32, 32), new Dimension(4, 16), objectCount);
+        firstPart = rope.getSegment(0);
+        middlePart = rope.getSegment(rope.getSegmentCount() / 2);
+        lastPart = rope.getSegment(rope.getSegmentCount() - 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public Body getNextPartFromFirst() {
+        return rope.getNextPart(firstPart);
+    }
+
+    @Benchmark
+    public Body getNextPartFromMiddle() {
+        return rope.getNextPart(middlePart);
+    }
+
+    @Benchmark
+    public Body getPreviousPartFromMiddle() {
+        return rope.getPreviousPart(middlePart);
+    }
+
+    @Benchmark
+    public Body getPreviousPartFromLast() {
+        return rope.getPreviousPart(lastPart);
+    }
+}
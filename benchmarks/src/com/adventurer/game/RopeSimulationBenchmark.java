@@ -0,0 +1,65 @@
+package com.adventurer.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import objects.elements.Rope;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+import static helper.Constants.PHYSICS_TIME_STEP;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RopeSimulationBenchmark {
+
+    private static final int SEGMENTS = 15;
+    private static final float ROPE_SPACING = 96;
+
+    @Param({"10", "50"})
+    public int ropeCount;
+
+    @Param({"BOX2D", "VERLET"})
+    public Rope.SimulationMode mode;
+
+    private World world;
+    private final Array<Rope> ropes = new Array<>();
+    private final Vector2 swingImpulse = new Vector2(0.075f, 0);
+    private int steps;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkEnvironment.init();
+        world = new World(new Vector2(0, -50f), false);
+        for (int i = 0; i < ropeCount; i++) {
+            ropes.add(new Rope(world, new Vector2(i * ROPE_SPACING, SEGMENTS * 16 + 32), new Dimension(32, 32), new Dimension(4, 16), SEGMENTS, mode));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ropes.clear();
+        world.dispose();
+    }
+
+    @Benchmark
+    public void step() {
+        // GameLevel.stepRopes only syncs the bodies of ropes near the adventurer; one rope stands in for that.
+        if (steps++ % 60 == 0) {
+            for (int i = 0; i < ropes.size; i++) {
+                ropes.get(i).swing(swingImpulse);
+            }
+        }
+        for (int i = 0; i < ropes.size; i++) {
+            ropes.get(i).step(PHYSICS_TIME_STEP);
+        }
+        ropes.first().syncBodies();
+        world.step(PHYSICS_TIME_STEP, 8, 3);
+    }
+}
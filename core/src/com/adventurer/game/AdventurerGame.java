@@ -5,18 +5,45 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import helper.CustomInputProcessor;
+import helper.FrameProfiler;
+import helper.GameAssets;
+import helper.InputPlayback;
+import helper.MetricsWriter;
+import objects.elements.Rope;
 
 public class AdventurerGame extends Game {
 
     public SpriteBatch batch;
     public int levelId = 1;
+    public boolean simulationThreadEnabled;
+    public String recordPath;
+    public String playbackPath;
+    public Rope.SimulationMode ropeMode = Rope.SimulationMode.BOX2D;
+    public final FrameProfiler profiler = new FrameProfiler();
+    public String metricsPath;
+    public MetricsWriter metricsWriter;
 
     @Override
     public void create() {
         batch = new SpriteBatch();
-        setScreen(new MenuScreen(this));
-        Gdx.input.setInputProcessor(new CustomInputProcessor());
-        MenuScreen.menuSound.loop(0.5f);
+        if (metricsPath != null)
+            metricsWriter = new MetricsWriter(Gdx.files.absolute(metricsPath));
+        final CustomInputProcessor inputProcessor = new CustomInputProcessor();
+        Gdx.input.setInputProcessor(inputProcessor);
+        setScreen(new LoadingScreen(this, new Runnable() {
+            @Override
+            public void run() {
+                if (playbackPath != null) {
+                    InputPlayback playback = new InputPlayback(Gdx.files.absolute(playbackPath));
+                    inputProcessor.startPlayback(playback);
+                    levelId = playback.getLevelId();
+                    setScreen(new GameScreen(AdventurerGame.this, levelId));
+                    return;
+                }
+                setScreen(new MenuScreen(AdventurerGame.this));
+                MenuScreen.menuSound.loop(0.5f);
+            }
+        }));
     }
 
     @Override
@@ -26,4 +53,13 @@ public class AdventurerGame extends Game {
             Gdx.app.exit();
         }
     }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        profiler.dispose();
+        if (metricsWriter != null)
+            metricsWriter.shutdown();
+        GameAssets.dispose();
+    }
 }
@@ -11,6 +11,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import helper.ButtonsSprites;
+import helper.GameAssets;
 import helper.MenuButton;
 import levels.GameLevel;
 import objects.elements.Coin;
@@ -27,13 +28,13 @@ public class GameResultsScreen implements Screen {
         DEFEAT
     }
 
-    private static final Texture victoryImage = new Texture("victory.png");
-    private static final Texture defeatImage = new Texture("defeat.png");
-    private static final Texture coinImage = new Texture("coin.png");
-    private static final Texture notCollectedCoinImage = new Texture("not_collected_coin.png");
+    private static final Texture victoryImage = GameAssets.texture("victory.png");
+    private static final Texture defeatImage = GameAssets.texture("defeat.png");
+    private static final Texture coinImage = GameAssets.texture("coin.png");
+    private static final Texture notCollectedCoinImage = GameAssets.texture("not_collected_coin.png");
 
-    public static final Sound victorySound = Gdx.audio.newSound(Gdx.files.internal("Sounds/victory.wav"));
-    public static final Sound defeatSound = Gdx.audio.newSound(Gdx.files.internal("Sounds/defeat.wav"));
+    public static final Sound victorySound = GameAssets.sound("Sounds/victory.wav");
+    public static final Sound defeatSound = GameAssets.sound("Sounds/defeat.wav");
 
     public final AdventurerGame game;
     private final List<MenuButton> buttons;
@@ -66,10 +67,13 @@ public class GameResultsScreen implements Screen {
         buttons.add(new MenuButton(ButtonsSprites.GameButtons.REPLAY, new Dimension((int)(95 * 1.5f), (int)(37 * 1.5f))));
         buttons.add(new MenuButton(ButtonsSprites.GameButtons.MENU, new Dimension((int)(95 * 1.5f), (int)(37 * 1.5f))));
         setButtonsLocations();
+        GameAssets.preloadLevel(level.getScreen().getLevelId());
+        GameAssets.preloadLevel(game.levelId);
     }
 
     @Override
     public void render(float delta) {
+        GameAssets.update();
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
@@ -127,7 +131,8 @@ public class GameResultsScreen implements Screen {
 
     @Override
     public void dispose() {
-
+        batch.dispose();
+        font.dispose();
     }
 
     private void setButtonsLocations() {
@@ -158,10 +163,18 @@ public class GameResultsScreen implements Screen {
                     switch (button.getName()) {
                         case REPLAY:
                             this.dispose();
-                            game.setScreen(new GameScreen(game, Integer.parseInt(String.valueOf(level.getClass().getName().charAt(level.getClass().getName().length() - 1)))));
+                            GameScreen gameScreen = level.getScreen();
+                            if (gameScreen.canRestart()) {
+                                gameScreen.restart();
+                                game.setScreen(gameScreen);
+                            } else {
+                                gameScreen.dispose();
+                                game.setScreen(new GameScreen(game, gameScreen.getLevelId()));
+                            }
                             break;
                         case MENU:
                             this.dispose();
+                            level.getScreen().dispose();
                             MenuScreen.menuSound.loop(1.0f);
                             game.setScreen(new MenuScreen(game));
                             break;
@@ -8,17 +8,27 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
 import com.badlogic.gdx.physics.box2d.ContactListener;
 import com.badlogic.gdx.physics.box2d.World;
 import helper.BodyHelper;
+import helper.CachedTileMapRenderer;
+import helper.CustomInputProcessor;
+import helper.FrameMetrics;
+import helper.FrameProfiler;
+import helper.InputPlayback;
+import helper.InputRecorder;
 import helper.MapHelper;
 import helper.ObjectsContactListener;
+import helper.RenderSnapshot;
 import levels.*;
+import objects.elements.Rope;
 
+import static helper.Constants.MAX_PHYSICS_STEPS;
+import static helper.Constants.PHYSICS_TIME_STEP;
 import static helper.Constants.PIXELS_PER_METER;
 
 public class GameScreen implements Screen {
@@ -28,22 +38,50 @@ public class GameScreen implements Screen {
     private final Box2DDebugRenderer box2DDebugRenderer;
     private final OrthographicCamera camera;
     private final ObjectsContactListener contactListener;
+    private final CustomInputProcessor inputProcessor;
+    private final boolean headless;
+    private final boolean fixedStep;
+    private final FrameProfiler profiler;
+    private final int levelId;
+    private final Rope.SimulationMode ropeMode;
     private SpriteBatch batch;
 
     private float stateTime;
+    private float accumulator;
+    private SimulationThread simulationThread;
+    private FrameMetrics metrics;
+    private long stepNanos;
 
     private GameLevel level;
-    private OrthogonalTiledMapRenderer orthogonalTiledMapRenderer;
+    private CachedTileMapRenderer mapRenderer;
+    private final Rectangle viewBounds = new Rectangle();
     private TiledMap map;
 
     public GameScreen(AdventurerGame game, int levelId) {
+        this(game, levelId, (CustomInputProcessor) Gdx.input.getInputProcessor(), game.ropeMode, false);
+    }
+
+    public GameScreen(int levelId, CustomInputProcessor inputProcessor) {
+        this(levelId, inputProcessor, Rope.SimulationMode.BOX2D);
+    }
+
+    public GameScreen(int levelId, CustomInputProcessor inputProcessor, Rope.SimulationMode ropeMode) {
+        this(null, levelId, inputProcessor, ropeMode, true);
+    }
+
+    private GameScreen(AdventurerGame game, int levelId, CustomInputProcessor inputProcessor, Rope.SimulationMode ropeMode, boolean headless) {
         this.camera = new OrthographicCamera();
         this.world = new World(new Vector2(0, -50f), false);
         this.contactListener = new ObjectsContactListener();
         this.world.setContactListener(contactListener);
-        this.box2DDebugRenderer = new Box2DDebugRenderer();
-        this.batch = new SpriteBatch();
+        this.box2DDebugRenderer = headless ? null : new Box2DDebugRenderer();
+        this.batch = headless ? null : new SpriteBatch();
         this.game = game;
+        this.inputProcessor = inputProcessor;
+        this.headless = headless;
+        this.levelId = levelId;
+        this.ropeMode = inputProcessor.getPlayback() != null ? inputProcessor.getPlayback().getRopeMode() : ropeMode;
+        this.profiler = headless ? new FrameProfiler() : game.profiler;
         switch (levelId) {
             case 1:
                 this.level = new Level1(this);
@@ -61,38 +99,143 @@ public class GameScreen implements Screen {
                 this.level = new Level5(this);
                 break;
         }
+        this.level.initializeEntities();
+        this.level.captureInitialState();
+        this.level.publishRenderState();
+        if (!headless && game.metricsWriter != null)
+            this.metrics = new FrameMetrics(levelId);
+        if (!headless && game.recordPath != null)
+            inputProcessor.startRecording(new InputRecorder(levelId, PHYSICS_TIME_STEP, this.ropeMode));
+        this.fixedStep = inputProcessor.getPlayback() != null;
+        if (!headless && !fixedStep && !inputProcessor.isRecording() && game.simulationThreadEnabled)
+            this.simulationThread = new SimulationThread(this);
     }
 
     @Override
     public void show() {
-        this.orthogonalTiledMapRenderer = level.getOrthogonalTiledMapRenderer();
+        this.mapRenderer = level.getMapRenderer();
         this.map = level.getMap();
         camera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         MenuScreen.menuSound.stop();
+        if (simulationThread != null && simulationThread.getState() == Thread.State.NEW)
+            simulationThread.start();
+    }
+
+    public boolean canRestart() { return !fixedStep && !inputProcessor.isRecording(); }
+
+    public void restart() {
+        level.restart();
+        stateTime = 0;
+        accumulator = 0;
+        if (!headless && game.metricsWriter != null)
+            metrics = new FrameMetrics(levelId);
+        if (simulationThread != null)
+            simulationThread = new SimulationThread(this);
     }
 
     private void update() {
-        stateTime += Gdx.graphics.getDeltaTime();
+        float delta = fixedStep ? PHYSICS_TIME_STEP : Gdx.graphics.getDeltaTime();
+        stateTime += delta;
 
-        world.step(Gdx.graphics.getDeltaTime(), 8, 3);
+        float alpha;
+        long stepStart = System.nanoTime();
+        if (fixedStep) {
+            profiler.begin(FrameProfiler.Phase.STEP);
+            step();
+            profiler.end(FrameProfiler.Phase.STEP);
+            stepNanos = System.nanoTime() - stepStart;
+            profiler.begin(FrameProfiler.Phase.UPDATE);
+            level.update();
+            profiler.end(FrameProfiler.Phase.UPDATE);
+            level.publishRenderState();
+            alpha = 1.0f;
+            level.acquireRenderState();
+        } else if (simulationThread == null) {
+            accumulator += Math.min(delta, PHYSICS_TIME_STEP * MAX_PHYSICS_STEPS);
+            int steps = 0;
+            stepNanos = 0;
+            while (accumulator >= PHYSICS_TIME_STEP && steps < MAX_PHYSICS_STEPS) {
+                stepStart = System.nanoTime();
+                profiler.begin(FrameProfiler.Phase.STEP);
+                step();
+                profiler.end(FrameProfiler.Phase.STEP);
+                stepNanos += System.nanoTime() - stepStart;
+                profiler.begin(FrameProfiler.Phase.UPDATE);
+                level.update();
+                profiler.end(FrameProfiler.Phase.UPDATE);
+                accumulator -= PHYSICS_TIME_STEP;
+                steps++;
+            }
+            if (accumulator >= PHYSICS_TIME_STEP)
+                accumulator %= PHYSICS_TIME_STEP;
+            level.publishRenderState();
+            alpha = accumulator / PHYSICS_TIME_STEP;
+            level.acquireRenderState();
+        } else {
+            RenderSnapshot snapshot = level.acquireRenderState();
+            alpha = Math.min(1.0f, (System.nanoTime() - snapshot.publishTime) / 1000000000.0f / PHYSICS_TIME_STEP);
+        }
+        level.setInterpolationAlpha(alpha);
         cameraUpdate();
 
         batch.setProjectionMatrix(camera.combined);
-        orthogonalTiledMapRenderer.setView(camera);
+        if (mapRenderer != null)
+            mapRenderer.setView(camera);
+    }
+
+    private void step() {
+        level.savePreviousStates();
+        level.stepRopes(PHYSICS_TIME_STEP);
+        world.step(PHYSICS_TIME_STEP, 8, 3);
+    }
+
+    void tick() {
+        step();
+        level.update();
+    }
+
+    private void stopSimulation() {
+        if (simulationThread != null)
+            simulationThread.shutdown();
+        InputRecorder recorder = inputProcessor.stopRecording();
+        if (recorder != null) {
+            recorder.save(Gdx.files.absolute(game.recordPath));
+            Gdx.app.log("InputRecorder", "Saved " + recorder.getFrames() + " frames to " + game.recordPath);
+        }
+    }
+
+    private void flushMetrics() {
+        if (metrics == null)
+            return;
+        metrics.finish(level.isFinished());
+        game.metricsWriter.submit(metrics);
+        metrics = null;
+    }
+
+    private void finishPlayback(InputPlayback playback) {
+        Gdx.app.log("InputPlayback", playback.getSummary());
+        Gdx.app.exit();
     }
 
     private void cameraUpdate() {
         Vector3 position = camera.position;
-        position.x = Math.max(level.getAdventurer().getBody().getPosition().x * PIXELS_PER_METER, Gdx.graphics.getWidth() / 2.0f);
+        position.x = Math.max(level.getAdventurer().getRenderX(), Gdx.graphics.getWidth() / 2.0f);
         position.x = Math.min(map.getProperties().get("width", Integer.class) * PIXELS_PER_METER - Gdx.graphics.getWidth() / 2.0f, position.x);
-        position.y = Math.max(level.getAdventurer().getBody().getPosition().y * PIXELS_PER_METER, Gdx.graphics.getHeight() / 2.0f);
+        position.y = Math.max(level.getAdventurer().getRenderY(), Gdx.graphics.getHeight() / 2.0f);
         position.y = Math.min(map.getProperties().get("height", Integer.class) * PIXELS_PER_METER - Gdx.graphics.getHeight() / 2.0f, position.y);
         camera.position.set(position);
         camera.update();
+        float viewWidth = camera.viewportWidth * camera.zoom;
+        float viewHeight = camera.viewportHeight * camera.zoom;
+        viewBounds.set(position.x - viewWidth / 2.0f, position.y - viewHeight / 2.0f, viewWidth, viewHeight);
     }
 
     @Override
     public void render(float delta) {
+        long frameStart = System.nanoTime();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3))
+            profiler.toggle();
+        profiler.beginFrame();
         update();
 
         Gdx.gl.glClearColor(0, 0, 0, 1);
@@ -100,11 +243,35 @@ public class GameScreen implements Screen {
 
 
         batch.begin();
+        level.renderBackground(batch);
+        batch.end();
+
+        profiler.begin(FrameProfiler.Phase.RENDER_MAP);
+        mapRenderer.render();
+        profiler.end(FrameProfiler.Phase.RENDER_MAP);
+
+        batch.begin();
+        profiler.begin(FrameProfiler.Phase.RENDER_LEVEL);
         level.render(batch, stateTime);
-        orthogonalTiledMapRenderer.render();
+        profiler.end(FrameProfiler.Phase.RENDER_LEVEL);
+        profiler.begin(FrameProfiler.Phase.RENDER_HUD);
         level.renderAdventurerHealth(batch, stateTime);
         batch.end();
+        profiler.end(FrameProfiler.Phase.RENDER_HUD);
+
+        profiler.recordObjects(level.getRenderedObjects(), level.getCulledObjects());
+        profiler.endFrame(batch, level.getRenderSnapshot());
+        if (metrics != null) {
+            metrics.recordObjects(level.getRenderedObjects(), level.getCulledObjects());
+            metrics.recordFrame((long) (Gdx.graphics.getDeltaTime() * 1000000000L), stepNanos);
+        }
 
+        InputPlayback playback = inputProcessor.getPlayback();
+        if (playback != null) {
+            playback.addFrameTime(System.nanoTime() - frameStart);
+            if (playback.isFinished() || level.isFinished())
+                finishPlayback(playback);
+        }
 
         //box2DDebugRenderer.render(world, camera.combined.scl(PIXELS_PER_METER));
     }
@@ -126,17 +293,38 @@ public class GameScreen implements Screen {
 
     @Override
     public void hide() {
-
+        stopSimulation();
+        flushMetrics();
     }
 
     @Override
     public void dispose() {
-
+        stopSimulation();
+        flushMetrics();
+        if (mapRenderer != null)
+            mapRenderer.dispose();
+        if (batch != null)
+            batch.dispose();
+        if (box2DDebugRenderer != null)
+            box2DDebugRenderer.dispose();
+        world.dispose();
     }
 
     public World getWorld() { return world; }
 
+    public GameLevel getLevel() { return level; }
+
+    public int getLevelId() { return levelId; }
+
+    public Rope.SimulationMode getRopeMode() { return ropeMode; }
+
+    public CustomInputProcessor getInputProcessor() { return inputProcessor; }
+
+    public boolean isHeadless() { return headless; }
+
     public OrthographicCamera getCamera() { return camera; }
 
+    public Rectangle getViewBounds() { return viewBounds; }
+
     public ContactListener getContactListener() { return contactListener; }
 }
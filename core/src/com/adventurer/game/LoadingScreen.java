@@ -0,0 +1,93 @@
+package com.adventurer.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import helper.GameAssets;
+
+public class LoadingScreen implements Screen {
+
+    private static final int UPDATE_BUDGET_MILLIS = 12;
+
+    public final AdventurerGame game;
+    private final Runnable onLoaded;
+    private final ShapeRenderer shapeRenderer;
+    private final SpriteBatch batch;
+    private final BitmapFont font;
+    private final long startTime = System.nanoTime();
+
+    public LoadingScreen(AdventurerGame game, Runnable onLoaded) {
+        this.game = game;
+        this.onLoaded = onLoaded;
+        this.shapeRenderer = new ShapeRenderer();
+        this.batch = new SpriteBatch();
+        this.font = new BitmapFont();
+        this.font.setColor(Color.WHITE);
+    }
+
+    @Override
+    public void show() {
+        GameAssets.queueAll();
+        GameAssets.preloadLevel(game.levelId);
+    }
+
+    @Override
+    public void render(float delta) {
+        boolean loaded = GameAssets.getManager().update(UPDATE_BUDGET_MILLIS);
+        float progress = GameAssets.getManager().getProgress();
+
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        int windowWidth = Gdx.graphics.getWidth();
+        int windowHeight = Gdx.graphics.getHeight();
+        float barWidth = windowWidth * 0.5f;
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect((windowWidth - barWidth) / 2.0f, windowHeight / 2.0f - 10, barWidth, 20);
+        shapeRenderer.setColor(Color.GOLD);
+        shapeRenderer.rect((windowWidth - barWidth) / 2.0f, windowHeight / 2.0f - 10, barWidth * progress, 20);
+        shapeRenderer.end();
+
+        batch.begin();
+        font.draw(batch, "Loading " + (int) (progress * 100) + "%", (windowWidth - barWidth) / 2.0f, windowHeight / 2.0f + 30);
+        batch.end();
+
+        if (loaded) {
+            Gdx.app.log("GameAssets", "Loaded " + GameAssets.getManager().getLoadedAssets() + " assets in " + (System.nanoTime() - startTime) / 1000000 + " ms, texture memory " + GameAssets.getTextureMemory() / 1024 + " KB");
+            dispose();
+            onLoaded.run();
+        }
+    }
+
+    @Override
+    public void resize(int width, int height) {
+
+    }
+
+    @Override
+    public void pause() {
+
+    }
+
+    @Override
+    public void resume() {
+
+    }
+
+    @Override
+    public void hide() {
+
+    }
+
+    @Override
+    public void dispose() {
+        shapeRenderer.dispose();
+        batch.dispose();
+        font.dispose();
+    }
+}
@@ -11,6 +11,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import helper.ButtonsSprites;
+import helper.GameAssets;
 import helper.MenuButton;
 
 import java.awt.*;
@@ -20,11 +21,11 @@ import java.util.List;
 
 public class MenuScreen implements Screen {
 
-    public static final Texture logo = new Texture("logo_dark.jpg");
-    public static final Texture menuBoard = new Texture("menu_board.png");
-    public static final Texture gameLogo = new Texture("game_logo.png");
+    public static final Texture logo = GameAssets.texture("logo_dark.jpg");
+    public static final Texture menuBoard = GameAssets.texture("menu_board.png");
+    public static final Texture gameLogo = GameAssets.texture("game_logo.png");
 
-    public static final Sound menuSound = Gdx.audio.newSound(Gdx.files.internal("Sounds/menu.mp3"));
+    public static final Sound menuSound = GameAssets.sound("Sounds/menu.mp3");
 
     public final AdventurerGame game;
     private final List<MenuButton> buttons;
@@ -42,10 +43,12 @@ public class MenuScreen implements Screen {
         buttons.add(new MenuButton(ButtonsSprites.GameButtons.LEVELS, new Dimension((int)(95 * 1.5f), (int)(37 * 1.5f))));
         buttons.add(new MenuButton(ButtonsSprites.GameButtons.QUIT, new Dimension((int)(95 * 1.5f), (int)(37 * 1.5f))));
         setButtonsLocations();
+        GameAssets.preloadLevel(game.levelId);
     }
 
     @Override
     public void render(float delta) {
+        GameAssets.update();
 
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
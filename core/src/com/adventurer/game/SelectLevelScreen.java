@@ -10,6 +10,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import helper.GameAssets;
 import helper.MenuButton;
 import objects.player.Adventurer;
 
@@ -18,13 +19,13 @@ import java.util.ArrayList;
 
 public class SelectLevelScreen implements Screen {
 
-    private static final Texture levelsMenuBoard = new Texture("levels_board.png");
-    private static final Texture selectLevel = new Texture("select_level.png");
-    private static final Texture numbersTextures = new Texture("numbers-icon-set.png");
+    private static final Texture levelsMenuBoard = GameAssets.texture("levels_board.png");
+    private static final Texture selectLevel = GameAssets.texture("select_level.png");
+    private static final Texture numbersTextures = GameAssets.texture("numbers-icon-set.png");
 
     private class LevelButton {
 
-        public final Texture texture = new Texture("level_button.png");
+        public final Texture texture = GameAssets.texture("level_button.png");
         public Vector2 position;
         public Dimension size;
         public String text;
@@ -57,11 +58,13 @@ public class SelectLevelScreen implements Screen {
     public void show() {
         for (int i = 1; i <= 5; i++) {
             this.levels.add(new LevelButton(new Vector2(), new Dimension(), String.valueOf(i)));
+            GameAssets.preloadLevel(i);
         }
     }
 
     @Override
     public void render(float delta) {
+        GameAssets.update();
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
@@ -0,0 +1,58 @@
+package com.adventurer.game;
+
+import static helper.Constants.MAX_PHYSICS_STEPS;
+import static helper.Constants.PHYSICS_TIME_STEP;
+
+public class SimulationThread extends Thread {
+
+    private final GameScreen gameScreen;
+    private volatile boolean running = true;
+
+    public SimulationThread(GameScreen gameScreen) {
+        super("Simulation");
+        this.gameScreen = gameScreen;
+        setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+        long previousTime = System.nanoTime();
+        float accumulator = 0;
+        while (running) {
+            long currentTime = System.nanoTime();
+            accumulator += Math.min((currentTime - previousTime) / 1000000000.0f, PHYSICS_TIME_STEP * MAX_PHYSICS_STEPS);
+            previousTime = currentTime;
+
+            int steps = 0;
+            while (running && accumulator >= PHYSICS_TIME_STEP && steps < MAX_PHYSICS_STEPS) {
+                gameScreen.tick();
+                accumulator -= PHYSICS_TIME_STEP;
+                steps++;
+            }
+            if (accumulator >= PHYSICS_TIME_STEP)
+                accumulator %= PHYSICS_TIME_STEP;
+            if (steps > 0)
+                gameScreen.getLevel().publishRenderState();
+
+            long sleepTime = (long) ((PHYSICS_TIME_STEP - accumulator) * 1000000000.0f);
+            if (sleepTime > 0) {
+                try {
+                    Thread.sleep(sleepTime / 1000000, (int) (sleepTime % 1000000));
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        if (Thread.currentThread() == this)
+            return;
+        try {
+            join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
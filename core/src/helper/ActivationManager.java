@@ -0,0 +1,50 @@
+package helper;
+
+import com.badlogic.gdx.utils.Array;
+import objects.elements.GameMapObject;
+
+public class ActivationManager {
+
+    private final BoundsStore boundsStore;
+    private final float radius;
+    private final float margin;
+    private int suspendedObjects;
+
+    public ActivationManager(BoundsStore boundsStore, float radius, float margin) {
+        this.boundsStore = boundsStore;
+        this.radius = radius;
+        this.margin = margin;
+    }
+
+    public void update(Array<? extends GameMapObject> objects, float centerX, float centerY) {
+        float wakeRadius = radius;
+        float sleepRadius = radius + margin;
+        for (int i = 0; i < objects.size; i++) {
+            GameMapObject object = objects.get(i);
+            int slot = object.getBoundsSlot();
+            if (slot < 0)
+                continue;
+            if (object.isSimulationSuspended()) {
+                if (boundsStore.overlaps(slot, centerX - wakeRadius, centerY - wakeRadius, centerX + wakeRadius, centerY + wakeRadius)) {
+                    object.setSimulationSuspended(false);
+                    suspendedObjects--;
+                }
+            } else if (!boundsStore.overlaps(slot, centerX - sleepRadius, centerY - sleepRadius, centerX + sleepRadius, centerY + sleepRadius)) {
+                object.setSimulationSuspended(true);
+                suspendedObjects++;
+            }
+        }
+    }
+
+    public void resumeAll(Array<? extends GameMapObject> objects) {
+        for (int i = 0; i < objects.size; i++) {
+            GameMapObject object = objects.get(i);
+            if (object.isSimulationSuspended()) {
+                object.setSimulationSuspended(false);
+                suspendedObjects--;
+            }
+        }
+    }
+
+    public int getSuspendedObjects() { return suspendedObjects; }
+}
@@ -1,15 +1,17 @@
 package helper;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.physics.box2d.joints.DistanceJointDef;
 import com.badlogic.gdx.physics.box2d.joints.RevoluteJoint;
 import com.badlogic.gdx.physics.box2d.joints.RevoluteJointDef;
 import com.badlogic.gdx.physics.box2d.joints.RopeJointDef;
-import com.badlogic.gdx.utils.Array;
 import objects.elements.*;
 import objects.player.Adventurer;
+import objects.player.GameEntity;
 
 import java.awt.*;
 
@@ -37,6 +39,18 @@ public class BodyHelper {
         return body;
     }
 
+    public static void createFootSensor(Body body, Dimension size, GameEntity.FootSensor footSensor) {
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox((size.width - 4) / 2.0f / PIXELS_PER_METER, 1 / PIXELS_PER_METER, new Vector2(0, -size.height / 2.0f / PIXELS_PER_METER), 0);
+
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.isSensor = true;
+        fixtureDef.density = 0;
+        body.createFixture(fixtureDef).setUserData(footSensor);
+        shape.dispose();
+    }
+
     public static void resizeBody(Body body, Dimension size) {
         PolygonShape shape = new PolygonShape();
         shape.setAsBox(size.width / 2.0f / PIXELS_PER_METER, size.height / 2.0f / PIXELS_PER_METER);
@@ -45,26 +59,33 @@ public class BodyHelper {
         fixtureDef.shape = shape;
         fixtureDef.friction = body.getFixtureList().get(0).getFriction();
         fixtureDef.density = body.getFixtureList().get(0).getDensity();
-        for (Fixture fixture : body.getFixtureList()) {
+        fixtureDef.isSensor = body.getFixtureList().get(0).isSensor();
+        GameEntity.FootSensor footSensor = null;
+        while (body.getFixtureList().size > 0) {
+            Fixture fixture = body.getFixtureList().peek();
+            if (fixture.getUserData() instanceof GameEntity.FootSensor)
+                footSensor = (GameEntity.FootSensor) fixture.getUserData();
             body.destroyFixture(fixture);
         }
         body.createFixture(fixtureDef).setUserData(body.getUserData());
         shape.dispose();
+        if (footSensor != null)
+            createFootSensor(body, size, footSensor);
     }
 
-    public static void buildRopeJoints(World world, Dimension partSize, int numberOfParts, Body base) {
-        Array<Body> bodies = new Array<>();
-        bodies.add(base);
+    public static Body[] buildRopeJoints(World world, Dimension partSize, int numberOfParts, Body base) {
+        Body[] segments = new Body[numberOfParts];
+        Body previous = base;
 
         for (int i = 1; i <= numberOfParts; i++) {
-            bodies.add(createBody(new Vector2(base.getPosition().x * PIXELS_PER_METER, base.getPosition().y * PIXELS_PER_METER - i * partSize.height), partSize, false, false, world, base.getUserData()));
+            Body segment = createBody(new Vector2(base.getPosition().x * PIXELS_PER_METER, base.getPosition().y * PIXELS_PER_METER - i * partSize.height), partSize, false, false, world, base.getUserData());
 
-            bodies.get(i).setUserData(base.getUserData());
-            bodies.get(i).getFixtureList().get(0).setUserData(bodies.get(i));
+            segment.setUserData(base.getUserData());
+            segment.getFixtureList().get(0).setUserData(segment);
 
             RopeJointDef ropeJointDef = new RopeJointDef();
-            ropeJointDef.bodyA = bodies.get(0);
-            ropeJointDef.bodyB = bodies.get(i);
+            ropeJointDef.bodyA = base;
+            ropeJointDef.bodyB = segment;
             ropeJointDef.collideConnected = true;
             ropeJointDef.maxLength = i * (partSize.height / PIXELS_PER_METER);
             ropeJointDef.localAnchorA.set(0, -partSize.height / PIXELS_PER_METER / 2.0f);
@@ -72,40 +93,72 @@ public class BodyHelper {
             world.createJoint(ropeJointDef);
 
             RevoluteJointDef revoluteJointDef = new RevoluteJointDef();
-            revoluteJointDef.bodyA = bodies.get(i - 1);
-            revoluteJointDef.bodyB = bodies.get(i);
+            revoluteJointDef.bodyA = previous;
+            revoluteJointDef.bodyB = segment;
             revoluteJointDef.localAnchorA.set(0, -partSize.height / PIXELS_PER_METER / 2.0f);
             revoluteJointDef.localAnchorB.set(0, partSize.height / PIXELS_PER_METER / 2.0f);
 
             world.createJoint(revoluteJointDef);
+            segments[i - 1] = segment;
+            previous = segment;
         }
+        return segments;
     }
 
-    public static float[] getBodyVertices(Body body) {
-        float[] vertices = new float[8];
-        Dimension size = new Dimension(0, 0);
-        Vector2 position = new Vector2(0, 0);
+    public static Body[] buildKinematicRopeSegments(World world, Dimension partSize, int numberOfParts, Body base) {
+        Body[] segments = new Body[numberOfParts];
+        for (int i = 1; i <= numberOfParts; i++) {
+            Body segment = createBody(new Vector2(base.getPosition().x * PIXELS_PER_METER, base.getPosition().y * PIXELS_PER_METER - i * partSize.height), partSize, false, false, world, base.getUserData());
+            segment.setType(BodyDef.BodyType.KinematicBody);
+            segment.getFixtureList().get(0).setSensor(true);
+            segment.getFixtureList().get(0).setUserData(segment);
+            segment.setAwake(false);
+            segments[i - 1] = segment;
+        }
+        return segments;
+    }
+
+    public static Rectangle getBodyBounds(Body body, Rectangle bounds) {
+        float x = 0, y = 0, width = 0, height = 0;
         if (body.getUserData() instanceof Adventurer) {
-            size = new Dimension(((Adventurer) body.getUserData()).getWidth(), ((Adventurer) body.getUserData()).getHeight());
-            position = new Vector2(((Adventurer) body.getUserData()).getX() - size.width / 2.0f, ((Adventurer) body.getUserData()).getY() - size.height / 2.0f);
+            Adventurer adventurer = (Adventurer) body.getUserData();
+            width = adventurer.getWidth();
+            height = adventurer.getHeight();
+            x = adventurer.getX() - width / 2.0f;
+            y = adventurer.getY() - height / 2.0f;
         } else if (body.getUserData() instanceof GameMapObject) {
-            size = ((GameMapObject) body.getUserData()).getDimension();
-            position = new Vector2(((GameMapObject) body.getUserData()).getPosition().x * PIXELS_PER_METER, ((GameMapObject) body.getUserData()).getPosition().y * PIXELS_PER_METER);
-            if (((GameMapObject) body.getUserData()).getBody().getType() == BodyDef.BodyType.DynamicBody)
-                position = new Vector2(((GameMapObject) body.getUserData()).getBody().getPosition().x * PIXELS_PER_METER - ((GameMapObject) body.getUserData()).getDimension().width / 2.0f, ((GameMapObject) body.getUserData()).getBody().getPosition().y * PIXELS_PER_METER - ((GameMapObject) body.getUserData()).getDimension().height / 2.0f);
+            GameMapObject object = (GameMapObject) body.getUserData();
+            width = object.getDimension().width;
+            height = object.getDimension().height;
+            if (body.getType() == BodyDef.BodyType.DynamicBody) {
+                x = body.getPosition().x * PIXELS_PER_METER - width / 2.0f;
+                y = body.getPosition().y * PIXELS_PER_METER - height / 2.0f;
+                if (body.getAngle() != 0) {
+                    float cos = Math.abs(MathUtils.cos(body.getAngle()));
+                    float sin = Math.abs(MathUtils.sin(body.getAngle()));
+                    float rotatedWidth = cos * width + sin * height;
+                    float rotatedHeight = sin * width + cos * height;
+                    x -= (rotatedWidth - width) / 2.0f;
+                    y -= (rotatedHeight - height) / 2.0f;
+                    width = rotatedWidth;
+                    height = rotatedHeight;
+                }
+            } else {
+                x = object.getPosition().x * PIXELS_PER_METER;
+                y = object.getPosition().y * PIXELS_PER_METER;
+            }
         }
-        vertices[0] = position.x;
-        vertices[1] = position.y - 1;
-        vertices[2] = position.x;
-        vertices[3] = position.y + size.height;
-        vertices[4] = position.x + size.width + 1;
-        vertices[5] = position.y + size.height;
-        vertices[6] = position.x + size.width + 1;
-        vertices[7] = position.y - 1;
-        if (body.getUserData() instanceof Bomb) {
-            vertices[3] += 2;
-            vertices[5] += 2;
-        }
-        return vertices;
+        float topOffset = (body.getUserData() instanceof Bomb) ? 2 : 0;
+        return bounds.set(x, y - 1, width + 1, height + 1 + topOffset);
+    }
+
+    public static float[] getBodyVertices(Body body) {
+        Rectangle bounds = getBodyBounds(body, new Rectangle());
+        return new float[] {
+                bounds.x, bounds.y,
+                bounds.x, bounds.y + bounds.height,
+                bounds.x + bounds.width, bounds.y + bounds.height,
+                bounds.x + bounds.width, bounds.y
+        };
     }
 }
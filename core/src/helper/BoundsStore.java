@@ -0,0 +1,75 @@
+package helper;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+public class BoundsStore {
+
+    private static final int STRIDE = 4;
+
+    private float[] bounds;
+    private int size;
+    private final IntArray freeSlots;
+
+    public BoundsStore(int capacity) {
+        this.bounds = new float[Math.max(1, capacity) * STRIDE];
+        this.freeSlots = new IntArray();
+    }
+
+    public int add() {
+        if (freeSlots.size > 0)
+            return freeSlots.pop();
+        if ((size + 1) * STRIDE > bounds.length) {
+            float[] resized = new float[bounds.length * 2];
+            System.arraycopy(bounds, 0, resized, 0, bounds.length);
+            bounds = resized;
+        }
+        return size++;
+    }
+
+    public void free(int slot) {
+        set(slot, 0, 0, 0, 0);
+        freeSlots.add(slot);
+    }
+
+    public void set(int slot, float minX, float minY, float maxX, float maxY) {
+        int offset = slot * STRIDE;
+        bounds[offset] = minX;
+        bounds[offset + 1] = minY;
+        bounds[offset + 2] = maxX;
+        bounds[offset + 3] = maxY;
+    }
+
+    public void set(int slot, Rectangle rectangle) {
+        set(slot, rectangle.x, rectangle.y, rectangle.x + rectangle.width, rectangle.y + rectangle.height);
+    }
+
+    public float getMinX(int slot) { return bounds[slot * STRIDE]; }
+
+    public float getMinY(int slot) { return bounds[slot * STRIDE + 1]; }
+
+    public float getMaxX(int slot) { return bounds[slot * STRIDE + 2]; }
+
+    public float getMaxY(int slot) { return bounds[slot * STRIDE + 3]; }
+
+    public boolean overlaps(int slotA, int slotB) {
+        int offsetB = slotB * STRIDE;
+        return overlaps(slotA, bounds[offsetB], bounds[offsetB + 1], bounds[offsetB + 2], bounds[offsetB + 3]);
+    }
+
+    public boolean overlaps(int slot, float minX, float minY, float maxX, float maxY) {
+        int offset = slot * STRIDE;
+        return bounds[offset] <= maxX && minX <= bounds[offset + 2] && bounds[offset + 1] <= maxY && minY <= bounds[offset + 3];
+    }
+
+    public boolean overlaps(int slot, Rectangle rectangle) {
+        return overlaps(slot, rectangle.x, rectangle.y, rectangle.x + rectangle.width, rectangle.y + rectangle.height);
+    }
+
+    public boolean contains(int slot, float x, float y) {
+        int offset = slot * STRIDE;
+        return x >= bounds[offset] && x <= bounds[offset + 2] && y >= bounds[offset + 1] && y <= bounds[offset + 3];
+    }
+
+    public int size() { return size - freeSlots.size; }
+}
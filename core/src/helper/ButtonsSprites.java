@@ -8,7 +8,7 @@ import java.util.Map;
 
 public class ButtonsSprites {
 
-    private static final Texture texture = new Texture("game_buttons.png");
+    private static final Texture texture = GameAssets.texture("game_buttons.png");
 
     public enum GameButtons {
         PLAY,
@@ -0,0 +1,190 @@
+package helper;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+public class CachedTileMapRenderer implements Disposable {
+
+    private static final int CHUNK_TILES = 16;
+    private static final int MAX_INDEXED_SPRITES = 8191;
+
+    private final SpriteCache cache;
+    private final Array<int[]> layerChunks = new Array<>();
+    private final float[] vertices = new float[20];
+    private final Rectangle viewBounds = new Rectangle();
+    private final int chunksX;
+    private final int chunksY;
+    private final float chunkWidth;
+    private final float chunkHeight;
+    private int renderedChunks;
+    private boolean disposed;
+
+    public CachedTileMapRenderer(TiledMap map) {
+        int tileWidth = map.getProperties().get("tilewidth", Integer.class);
+        int tileHeight = map.getProperties().get("tileheight", Integer.class);
+        int mapWidth = map.getProperties().get("width", Integer.class);
+        int mapHeight = map.getProperties().get("height", Integer.class);
+        this.chunksX = (mapWidth + CHUNK_TILES - 1) / CHUNK_TILES;
+        this.chunksY = (mapHeight + CHUNK_TILES - 1) / CHUNK_TILES;
+        this.chunkWidth = CHUNK_TILES * tileWidth;
+        this.chunkHeight = CHUNK_TILES * tileHeight;
+
+        Array<TiledMapTileLayer> layers = new Array<>();
+        int tileCount = 0;
+        for (MapLayer layer : map.getLayers()) {
+            if (!(layer instanceof TiledMapTileLayer) || !layer.isVisible())
+                continue;
+            TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+            layers.add(tileLayer);
+            tileCount += countTiles(tileLayer);
+        }
+        this.cache = new SpriteCache(Math.max(1, tileCount), tileCount <= MAX_INDEXED_SPRITES);
+        for (TiledMapTileLayer layer : layers) {
+            layerChunks.add(buildChunks(layer));
+        }
+    }
+
+    public void setView(OrthographicCamera camera) {
+        cache.setProjectionMatrix(camera.combined);
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        float w = width * Math.abs(camera.up.y) + height * Math.abs(camera.up.x);
+        float h = height * Math.abs(camera.up.y) + width * Math.abs(camera.up.x);
+        viewBounds.set(camera.position.x - w / 2, camera.position.y - h / 2, w, h);
+    }
+
+    public void render() {
+        int fromX = Math.max(0, (int) Math.floor(viewBounds.x / chunkWidth));
+        int toX = Math.min(chunksX - 1, (int) Math.floor((viewBounds.x + viewBounds.width) / chunkWidth));
+        int fromY = Math.max(0, (int) Math.floor(viewBounds.y / chunkHeight));
+        int toY = Math.min(chunksY - 1, (int) Math.floor((viewBounds.y + viewBounds.height) / chunkHeight));
+        renderedChunks = 0;
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.begin();
+        for (int i = 0; i < layerChunks.size; i++) {
+            int[] chunks = layerChunks.get(i);
+            for (int y = fromY; y <= toY; y++) {
+                for (int x = fromX; x <= toX; x++) {
+                    int id = chunks[y * chunksX + x];
+                    if (id < 0)
+                        continue;
+                    cache.draw(id);
+                    renderedChunks++;
+                }
+            }
+        }
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    public int getRenderedChunks() { return renderedChunks; }
+
+    @Override
+    public void dispose() {
+        if (disposed)
+            return;
+        disposed = true;
+        cache.dispose();
+    }
+
+    private int countTiles(TiledMapTileLayer layer) {
+        int count = 0;
+        for (int y = 0; y < layer.getHeight(); y++) {
+            for (int x = 0; x < layer.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell != null && cell.getTile() != null)
+                    count++;
+            }
+        }
+        return count;
+    }
+
+    private int[] buildChunks(TiledMapTileLayer layer) {
+        int[] chunks = new int[chunksX * chunksY];
+        float color = Color.toFloatBits(1f, 1f, 1f, layer.getOpacity());
+        for (int chunkY = 0; chunkY < chunksY; chunkY++) {
+            for (int chunkX = 0; chunkX < chunksX; chunkX++) {
+                int added = 0;
+                cache.beginCache();
+                for (int row = chunkY * CHUNK_TILES; row < Math.min(layer.getHeight(), (chunkY + 1) * CHUNK_TILES); row++) {
+                    for (int col = chunkX * CHUNK_TILES; col < Math.min(layer.getWidth(), (chunkX + 1) * CHUNK_TILES); col++) {
+                        TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                        if (cell == null || cell.getTile() == null)
+                            continue;
+                        addTile(layer, cell, col, row, color);
+                        added++;
+                    }
+                }
+                int id = cache.endCache();
+                chunks[chunkY * chunksX + chunkX] = added == 0 ? -1 : id;
+            }
+        }
+        return chunks;
+    }
+
+    private void addTile(TiledMapTileLayer layer, TiledMapTileLayer.Cell cell, int col, int row, float color) {
+        TiledMapTile tile = cell.getTile();
+        TextureRegion region = tile.getTextureRegion();
+        float x1 = col * layer.getTileWidth() + tile.getOffsetX() + layer.getRenderOffsetX();
+        float y1 = row * layer.getTileHeight() + tile.getOffsetY() - layer.getRenderOffsetY();
+        float x2 = x1 + region.getRegionWidth();
+        float y2 = y1 + region.getRegionHeight();
+
+        float u1 = region.getU(), v1 = region.getV2();
+        float u2 = u1, v2 = region.getV();
+        float u3 = region.getU2(), v3 = v2;
+        float u4 = u3, v4 = v1;
+        float temp;
+        if (cell.getFlipHorizontally()) {
+            temp = u1; u1 = u3; u3 = temp;
+            temp = u2; u2 = u4; u4 = temp;
+        }
+        if (cell.getFlipVertically()) {
+            temp = v1; v1 = v3; v3 = temp;
+            temp = v2; v2 = v4; v4 = temp;
+        }
+        switch (cell.getRotation()) {
+            case TiledMapTileLayer.Cell.ROTATE_90:
+                temp = v1; v1 = v2; v2 = v3; v3 = v4; v4 = temp;
+                temp = u1; u1 = u2; u2 = u3; u3 = u4; u4 = temp;
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_180:
+                temp = u1; u1 = u3; u3 = temp;
+                temp = u2; u2 = u4; u4 = temp;
+                temp = v1; v1 = v3; v3 = temp;
+                temp = v2; v2 = v4; v4 = temp;
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_270:
+                temp = v1; v1 = v4; v4 = v3; v3 = v2; v2 = temp;
+                temp = u1; u1 = u4; u4 = u3; u3 = u2; u2 = temp;
+                break;
+        }
+
+        setVertex(0, x1, y1, color, u1, v1);
+        setVertex(1, x1, y2, color, u2, v2);
+        setVertex(2, x2, y2, color, u3, v3);
+        setVertex(3, x2, y1, color, u4, v4);
+        cache.add(region.getTexture(), vertices, 0, vertices.length);
+    }
+
+    private void setVertex(int index, float x, float y, float color, float u, float v) {
+        int offset = index * 5;
+        vertices[offset] = x;
+        vertices[offset + 1] = y;
+        vertices[offset + 2] = color;
+        vertices[offset + 3] = u;
+        vertices[offset + 4] = v;
+    }
+}
@@ -3,4 +3,13 @@ package helper;
 public class Constants {
 
     public static final float PIXELS_PER_METER = 32.0f;
+    public static final float SPATIAL_GRID_CELL_SIZE = 128.0f;
+    public static final float SPATIAL_QUERY_MARGIN = 64.0f;
+    public static final float PHYSICS_TIME_STEP = 1 / 60.0f;
+    public static final int MAX_PHYSICS_STEPS = 5;
+    public static final float ACTIVATION_RADIUS = 1024.0f;
+    public static final float ACTIVATION_MARGIN = 128.0f;
+    public static final float REWIND_SECONDS = 10.0f;
+    public static final int REWIND_FRAMES = Math.round(REWIND_SECONDS / PHYSICS_TIME_STEP);
+    public static final int REWIND_BUFFER_BYTES = 256 * 1024;
 }
@@ -8,6 +8,15 @@ import java.util.HashMap;
 
 public class CustomInputProcessor implements InputProcessor {
 
+    public static final int[] RECORDED_KEYS = new int[] {
+            Input.Keys.LEFT,
+            Input.Keys.RIGHT,
+            Input.Keys.UP,
+            Input.Keys.DOWN,
+            Input.Keys.SHIFT_LEFT,
+            Input.Keys.R
+    };
+
     public HashMap<Integer, Boolean> keysStates = new HashMap<>();
 
     public CustomInputProcessor() {
@@ -18,10 +27,22 @@ public class CustomInputProcessor implements InputProcessor {
 
     public int lastKeycode = -1;
 
+    private final boolean[] pressedKeys = new boolean[Input.Keys.MAX_KEYCODE + 1];
+    private final boolean[] pendingJustPressedKeys = new boolean[Input.Keys.MAX_KEYCODE + 1];
+    private final boolean[] justPressedKeys = new boolean[Input.Keys.MAX_KEYCODE + 1];
+    private InputRecorder recorder;
+    private InputPlayback playback;
+
     @Override
     public boolean keyDown(int keycode) {
         keysStates.put(keycode, true);
         lastKeycode = keycode;
+        if (keycode >= 0 && keycode <= Input.Keys.MAX_KEYCODE && playback == null) {
+            synchronized (this) {
+                pressedKeys[keycode] = true;
+                pendingJustPressedKeys[keycode] = true;
+            }
+        }
         return false;
     }
 
@@ -29,9 +50,75 @@ public class CustomInputProcessor implements InputProcessor {
     public boolean keyUp(int keycode) {
         keysStates.put(keycode, false);
         lastKeycode = keycode;
+        if (keycode >= 0 && keycode <= Input.Keys.MAX_KEYCODE && playback == null) {
+            synchronized (this) {
+                pressedKeys[keycode] = false;
+            }
+        }
         return false;
     }
 
+    public synchronized void latchKeys() {
+        if (playback != null) {
+            playNextFrame();
+        } else {
+            for (int i = 0; i < justPressedKeys.length; i++) {
+                justPressedKeys[i] = pendingJustPressedKeys[i];
+                pendingJustPressedKeys[i] = false;
+            }
+        }
+        if (recorder != null)
+            recordFrame();
+    }
+
+    public void startRecording(InputRecorder recorder) { this.recorder = recorder; }
+
+    public InputRecorder stopRecording() {
+        InputRecorder recorder = this.recorder;
+        this.recorder = null;
+        return recorder;
+    }
+
+    public boolean isRecording() { return recorder != null; }
+
+    public synchronized void startPlayback(InputPlayback playback) {
+        this.playback = playback;
+        for (int i = 0; i < pressedKeys.length; i++) {
+            pressedKeys[i] = false;
+            pendingJustPressedKeys[i] = false;
+            justPressedKeys[i] = false;
+        }
+    }
+
+    public InputPlayback getPlayback() { return playback; }
+
+    private void playNextFrame() {
+        boolean hasFrame = playback.next();
+        for (int i = 0; i < playback.getKeyCount(); i++) {
+            int keycode = playback.getKeycode(i);
+            pressedKeys[keycode] = hasFrame && playback.isPressed(i);
+            justPressedKeys[keycode] = hasFrame && playback.isJustPressed(i);
+        }
+        lastKeycode = hasFrame ? playback.getLastKeycode() : -1;
+    }
+
+    private void recordFrame() {
+        int pressedMask = 0, justPressedMask = 0, lastKeyIndex = -1;
+        for (int i = 0; i < RECORDED_KEYS.length; i++) {
+            if (pressedKeys[RECORDED_KEYS[i]])
+                pressedMask |= 1 << i;
+            if (justPressedKeys[RECORDED_KEYS[i]])
+                justPressedMask |= 1 << i;
+            if (lastKeycode == RECORDED_KEYS[i])
+                lastKeyIndex = i;
+        }
+        recorder.record(pressedMask, justPressedMask, lastKeyIndex);
+    }
+
+    public boolean isKeyPressed(int keycode) { return pressedKeys[keycode]; }
+
+    public boolean isKeyJustPressed(int keycode) { return justPressedKeys[keycode]; }
+
     @Override
     public boolean keyTyped(char character) {
         return false;
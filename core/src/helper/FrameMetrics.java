@@ -0,0 +1,88 @@
+package helper;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+public class FrameMetrics {
+
+    private static final long BUCKET_NANOS = 100000L;
+    private static final int BUCKET_COUNT = 2500;
+    private static final int MAX_GC_EVENTS = 512;
+
+    public final int levelId;
+    public final long startTime = System.currentTimeMillis();
+    public final LatencyHistogram frameTimes = new LatencyHistogram(BUCKET_NANOS, BUCKET_COUNT);
+    public final LatencyHistogram stepTimes = new LatencyHistogram(BUCKET_NANOS, BUCKET_COUNT);
+    public final int[] gcEventFrames = new int[MAX_GC_EVENTS];
+    public final long[] gcEventCounts = new long[MAX_GC_EVENTS];
+    public final long[] gcEventMillis = new long[MAX_GC_EVENTS];
+    public int gcEvents;
+    public int droppedGcEvents;
+    public long renderedObjects;
+    public long culledObjects;
+    public long endTime;
+    public boolean levelFinished;
+
+    private final GarbageCollectorMXBean[] collectors;
+    private long lastGcCount;
+    private long lastGcMillis;
+    private int frames;
+
+    public FrameMetrics(int levelId) {
+        this.levelId = levelId;
+        List<GarbageCollectorMXBean> beans = ManagementFactory.getGarbageCollectorMXBeans();
+        this.collectors = beans.toArray(new GarbageCollectorMXBean[beans.size()]);
+        this.lastGcCount = gcCount();
+        this.lastGcMillis = gcMillis();
+    }
+
+    public void recordObjects(int rendered, int culled) {
+        renderedObjects += rendered;
+        culledObjects += culled;
+    }
+
+    public void recordFrame(long frameNanos, long stepNanos) {
+        frameTimes.record(frameNanos);
+        stepTimes.record(stepNanos);
+
+        long gcCount = gcCount();
+        if (gcCount != lastGcCount) {
+            long gcMillis = gcMillis();
+            if (gcEvents < MAX_GC_EVENTS) {
+                gcEventFrames[gcEvents] = frames;
+                gcEventCounts[gcEvents] = gcCount - lastGcCount;
+                gcEventMillis[gcEvents] = gcMillis - lastGcMillis;
+                gcEvents++;
+            } else {
+                droppedGcEvents++;
+            }
+            lastGcCount = gcCount;
+            lastGcMillis = gcMillis;
+        }
+        frames++;
+    }
+
+    public void finish(boolean levelFinished) {
+        this.endTime = System.currentTimeMillis();
+        this.levelFinished = levelFinished;
+    }
+
+    public int getFrames() { return frames; }
+
+    private long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    private long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,189 @@
+package helper;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+public class FrameProfiler {
+
+    public enum Phase {
+        STEP,
+        UPDATE,
+        RENDER_LEVEL,
+        RENDER_MAP,
+        RENDER_HUD
+    }
+
+    private static final int HISTORY = 240;
+    private static final float GRAPH_HEIGHT = 80f;
+    private static final float GRAPH_SCALE_MS = 33.3f;
+
+    private boolean enabled;
+    private final Phase[] phases = Phase.values();
+    private final long[] phaseStart = new long[phases.length];
+    private final long[] phaseTotal = new long[phases.length];
+    private final float[][] phaseHistory = new float[phases.length][HISTORY];
+    private final float[] frameHistory = new float[HISTORY];
+    private final float[] allocationHistory = new float[HISTORY];
+    private final float[] sorted = new float[HISTORY];
+    private final StringBuilder text = new StringBuilder();
+    private final Matrix4 projection = new Matrix4();
+    private int cursor;
+    private int samples;
+    private long frameStart;
+    private long allocatedAtFrameStart;
+    private int drawCalls;
+    private int textureBindings;
+    private int renderedObjects;
+    private int culledObjects;
+
+    private GLProfiler glProfiler;
+    private ShapeRenderer shapeRenderer;
+    private BitmapFont font;
+    private com.sun.management.ThreadMXBean threadBean;
+
+    public void toggle() { setEnabled(!enabled); }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled && glProfiler == null) {
+            glProfiler = new GLProfiler(Gdx.graphics);
+            shapeRenderer = new ShapeRenderer();
+            font = new BitmapFont();
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+                threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+                if (!threadBean.isThreadAllocatedMemorySupported())
+                    threadBean = null;
+                else
+                    threadBean.setThreadAllocatedMemoryEnabled(true);
+            }
+        }
+        if (glProfiler != null) {
+            if (enabled) {
+                glProfiler.enable();
+                glProfiler.reset();
+            } else {
+                glProfiler.disable();
+            }
+        }
+        samples = 0;
+        cursor = 0;
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    public void beginFrame() {
+        if (!enabled)
+            return;
+        Arrays.fill(phaseTotal, 0);
+        allocatedAtFrameStart = allocatedBytes();
+        frameStart = System.nanoTime();
+    }
+
+    public void begin(Phase phase) {
+        if (enabled)
+            phaseStart[phase.ordinal()] = System.nanoTime();
+    }
+
+    public void end(Phase phase) {
+        if (enabled)
+            phaseTotal[phase.ordinal()] += System.nanoTime() - phaseStart[phase.ordinal()];
+    }
+
+    public void recordObjects(int rendered, int culled) {
+        renderedObjects = rendered;
+        culledObjects = culled;
+    }
+
+    public void endFrame(SpriteBatch batch, RenderSnapshot snapshot) {
+        if (!enabled)
+            return;
+        frameHistory[cursor] = (System.nanoTime() - frameStart) / 1000000f;
+        allocationHistory[cursor] = allocatedBytes() - allocatedAtFrameStart;
+        for (int i = 0; i < phases.length; i++) {
+            phaseHistory[i][cursor] = phaseTotal[i] / 1000000f;
+        }
+        cursor = (cursor + 1) % HISTORY;
+        samples = Math.min(samples + 1, HISTORY);
+
+        drawCalls = glProfiler.getDrawCalls();
+        textureBindings = glProfiler.getTextureBindings();
+        glProfiler.reset();
+
+        draw(batch, snapshot);
+    }
+
+    private void draw(SpriteBatch batch, RenderSnapshot snapshot) {
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        projection.setToOrtho2D(0, 0, width, height);
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        shapeRenderer.setProjectionMatrix(projection);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0, 0, 0, 0.6f);
+        shapeRenderer.rect(0, 0, HISTORY * 2 + 10, height * 0.5f);
+        for (int i = 0; i < samples; i++) {
+            int index = (cursor - samples + i + HISTORY) % HISTORY;
+            float frameTime = frameHistory[index];
+            shapeRenderer.setColor(frameTime > 16.7f ? Color.RED : Color.GREEN);
+            shapeRenderer.rect(5 + i * 2, 5, 2, Math.min(frameTime / GRAPH_SCALE_MS, 1f) * GRAPH_HEIGHT);
+        }
+        shapeRenderer.setColor(Color.YELLOW);
+        shapeRenderer.rect(5, 5 + 16.7f / GRAPH_SCALE_MS * GRAPH_HEIGHT, HISTORY * 2, 1);
+        shapeRenderer.end();
+
+        text.setLength(0);
+        text.append("Frame ms  p50 ").append(percentile(frameHistory, 0.5f))
+                .append("  p95 ").append(percentile(frameHistory, 0.95f))
+                .append("  p99 ").append(percentile(frameHistory, 0.99f))
+                .append("  max ").append(percentile(frameHistory, 1f)).append('\n');
+        for (int i = 0; i < phases.length; i++) {
+            text.append(phases[i].name()).append("  p50 ").append(percentile(phaseHistory[i], 0.5f))
+                    .append("  p95 ").append(percentile(phaseHistory[i], 0.95f)).append('\n');
+        }
+        text.append("Draw calls ").append(drawCalls).append("  texture binds ").append(textureBindings).append('\n');
+        text.append("Objects drawn ").append(renderedObjects).append("  culled ").append(culledObjects).append('\n');
+        text.append("Bodies ").append(snapshot.bodyCount)
+                .append("  contacts ").append(snapshot.contactCount)
+                .append("  joints ").append(snapshot.jointCount)
+                .append("  suspended objects ").append(snapshot.suspendedObjects).append('\n');
+        if (threadBean != null)
+            text.append("Allocated KB/frame  p50 ").append(percentile(allocationHistory, 0.5f) / 1024f)
+                    .append("  max ").append(percentile(allocationHistory, 1f) / 1024f).append('\n');
+        text.append("FPS ").append(Gdx.graphics.getFramesPerSecond());
+
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        font.draw(batch, text, 10, height * 0.5f - 10);
+        batch.end();
+    }
+
+    private float percentile(float[] history, float percentile) {
+        if (samples == 0)
+            return 0;
+        System.arraycopy(history, 0, sorted, 0, HISTORY);
+        Arrays.sort(sorted, 0, samples);
+        return Math.round(sorted[Math.min(samples - 1, (int) (percentile * samples))] * 100) / 100f;
+    }
+
+    private long allocatedBytes() {
+        return threadBean == null ? 0 : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public void dispose() {
+        if (glProfiler != null) {
+            glProfiler.disable();
+            shapeRenderer.dispose();
+            font.dispose();
+        }
+    }
+}
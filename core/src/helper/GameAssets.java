@@ -0,0 +1,138 @@
+package helper;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+
+public class GameAssets {
+
+    private static final String[] textures = new String[] {
+            "logo_dark.jpg",
+            "menu_board.png",
+            "game_logo.png",
+            "game_buttons.png",
+            "levels_board.png",
+            "select_level.png",
+            "numbers-icon-set.png",
+            "level_button.png",
+            "victory.png",
+            "defeat.png",
+            "coin.png",
+            "not_collected_coin.png",
+            "background3.jpg"
+    };
+
+    private static final String[] sounds = new String[] {
+            "Sounds/menu.mp3",
+            "Sounds/victory.wav",
+            "Sounds/defeat.wav",
+            "Sounds/ouch.mp3",
+            "Sounds/run2.mp3",
+            "Sounds/fall.mp3",
+            "Sounds/jump.mp3",
+            "Sounds/crouching.mp3",
+            "Sounds/rope.mp3",
+            "Sounds/ladder.mp3",
+            "Sounds/coin.mp3"
+    };
+
+    private static AssetManager manager;
+
+    public static boolean isHeadless() { return Gdx.gl == null; }
+
+    public static synchronized AssetManager getManager() {
+        if (manager == null) {
+            manager = new AssetManager();
+            manager.setLoader(LevelData.class, new LevelDataLoader(manager.getFileHandleResolver()));
+        }
+        return manager;
+    }
+
+    public static void queueAll() {
+        AssetManager manager = getManager();
+        if (!isHeadless()) {
+            manager.load(SpriteRegions.ATLAS_PATH, TextureAtlas.class);
+            for (String path : textures) {
+                manager.load(path, Texture.class);
+            }
+        }
+        for (String path : sounds) {
+            manager.load(path, Sound.class);
+        }
+    }
+
+    public static synchronized void preloadLevel(int levelId) {
+        AssetManager manager = getManager();
+        String name = LevelData.assetName(levelId);
+        if (!manager.contains(name))
+            manager.load(name, LevelData.class);
+    }
+
+    public static void update() {
+        getManager().update();
+    }
+
+    public static LevelData levelData(String name) {
+        return get(name, LevelData.class);
+    }
+
+    public static Texture texture(String path) {
+        if (isHeadless())
+            return null;
+        return get(path, Texture.class);
+    }
+
+    public static TextureAtlas atlas(String path) {
+        if (isHeadless())
+            return null;
+        return get(path, TextureAtlas.class);
+    }
+
+    public static Sound sound(String path) {
+        return get(path, Sound.class);
+    }
+
+    public static long getTextureMemory() {
+        Array<Texture> loaded = getManager().getAll(Texture.class, new Array<Texture>());
+        long bytes = 0;
+        for (Texture texture : loaded) {
+            bytes += (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(texture.getTextureData().getFormat());
+        }
+        return bytes;
+    }
+
+    public static synchronized void dispose() {
+        if (manager != null)
+            manager.dispose();
+        manager = null;
+    }
+
+    private static synchronized <T> T get(String path, Class<T> type) {
+        AssetManager manager = getManager();
+        if (!manager.isLoaded(path, type)) {
+            manager.load(path, type);
+            manager.finishLoadingAsset(path);
+        }
+        return manager.get(path, type);
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+}
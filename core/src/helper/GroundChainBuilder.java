@@ -0,0 +1,205 @@
+package helper;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import objects.elements.Ground;
+
+import java.util.Arrays;
+
+public class GroundChainBuilder {
+
+    private static final int RIGHT = 0;
+    private static final int UP = 1;
+    private static final int LEFT = 2;
+    private static final int DOWN = 3;
+
+    private final Array<Ground> grounds = new Array<>();
+    private final FloatArray rectangles = new FloatArray();
+
+    public void add(Ground ground, float[] vertices) {
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < vertices.length; i += 2) {
+            minX = Math.min(minX, vertices[i]);
+            maxX = Math.max(maxX, vertices[i]);
+            minY = Math.min(minY, vertices[i + 1]);
+            maxY = Math.max(maxY, vertices[i + 1]);
+        }
+        grounds.add(ground);
+        rectangles.addAll(minX, minY, maxX, maxY);
+    }
+
+    public void build(World world) {
+        int[] groups = findGroups();
+        boolean[] built = new boolean[grounds.size];
+        IntArray members = new IntArray();
+        for (int i = 0; i < grounds.size; i++) {
+            if (built[i])
+                continue;
+            members.clear();
+            for (int j = i; j < grounds.size; j++) {
+                if (groups[j] == groups[i]) {
+                    members.add(j);
+                    built[j] = true;
+                }
+            }
+            buildBody(world, members);
+        }
+        grounds.clear();
+        rectangles.clear();
+    }
+
+    private int[] findGroups() {
+        int[] groups = new int[grounds.size];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = i;
+        }
+        for (int i = 0; i < groups.length; i++) {
+            for (int j = i + 1; j < groups.length; j++) {
+                if (touches(i, j))
+                    union(groups, i, j);
+            }
+        }
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = find(groups, i);
+        }
+        return groups;
+    }
+
+    private boolean touches(int a, int b) {
+        float[] r = rectangles.items;
+        return r[a * 4] <= r[b * 4 + 2] && r[b * 4] <= r[a * 4 + 2] && r[a * 4 + 1] <= r[b * 4 + 3] && r[b * 4 + 1] <= r[a * 4 + 3];
+    }
+
+    private static int find(int[] groups, int i) {
+        while (groups[i] != i) {
+            groups[i] = groups[groups[i]];
+            i = groups[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] groups, int a, int b) {
+        int rootA = find(groups, a), rootB = find(groups, b);
+        if (rootA != rootB)
+            groups[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+    }
+
+    private void buildBody(World world, IntArray members) {
+        FloatArray xs = new FloatArray();
+        FloatArray ys = new FloatArray();
+        float[] r = rectangles.items;
+        for (int i = 0; i < members.size; i++) {
+            int index = members.get(i) * 4;
+            addUnique(xs, r[index]);
+            addUnique(ys, r[index + 1]);
+            addUnique(xs, r[index + 2]);
+            addUnique(ys, r[index + 3]);
+        }
+        xs.sort();
+        ys.sort();
+
+        int columns = xs.size - 1, rows = ys.size - 1;
+        boolean[] filled = new boolean[columns * rows];
+        for (int i = 0; i < members.size; i++) {
+            int index = members.get(i) * 4;
+            int fromColumn = xs.indexOf(r[index]), toColumn = xs.indexOf(r[index + 2]);
+            int fromRow = ys.indexOf(r[index + 1]), toRow = ys.indexOf(r[index + 3]);
+            for (int column = fromColumn; column < toColumn; column++) {
+                for (int row = fromRow; row < toRow; row++) {
+                    filled[column * rows + row] = true;
+                }
+            }
+        }
+
+        // Directed outline edges keep the solid cells on their left, so outer loops run counter-clockwise.
+        IntArray edgeStarts = new IntArray();
+        IntArray edgeDirections = new IntArray();
+        int[] outgoing = new int[xs.size * ys.size * 2];
+        Arrays.fill(outgoing, -1);
+        for (int column = 0; column < columns; column++) {
+            for (int row = 0; row < rows; row++) {
+                if (!filled[column * rows + row])
+                    continue;
+                if (row == 0 || !filled[column * rows + row - 1])
+                    addEdge(edgeStarts, edgeDirections, outgoing, column * ys.size + row, RIGHT);
+                if (column == columns - 1 || !filled[(column + 1) * rows + row])
+                    addEdge(edgeStarts, edgeDirections, outgoing, (column + 1) * ys.size + row, UP);
+                if (row == rows - 1 || !filled[column * rows + row + 1])
+                    addEdge(edgeStarts, edgeDirections, outgoing, (column + 1) * ys.size + row + 1, LEFT);
+                if (column == 0 || !filled[(column - 1) * rows + row])
+                    addEdge(edgeStarts, edgeDirections, outgoing, column * ys.size + row + 1, DOWN);
+            }
+        }
+
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        Body body = world.createBody(bodyDef);
+        Ground owner = grounds.get(members.first());
+        body.setUserData(owner);
+        for (int i = 0; i < members.size; i++) {
+            grounds.get(members.get(i)).setBody(body);
+        }
+
+        boolean[] traced = new boolean[edgeStarts.size];
+        IntArray loop = new IntArray();
+        FloatArray vertices = new FloatArray();
+        for (int start = 0; start < edgeStarts.size; start++) {
+            if (traced[start])
+                continue;
+            loop.clear();
+            int edge = start;
+            do {
+                traced[edge] = true;
+                loop.add(edge);
+                edge = nextEdge(edgeStarts, edgeDirections, outgoing, edge, ys.size);
+            } while (edge != start);
+
+            vertices.clear();
+            for (int i = 0; i < loop.size; i++) {
+                int current = loop.get(i), previous = loop.get((i + loop.size - 1) % loop.size);
+                if (edgeDirections.get(current) == edgeDirections.get(previous))
+                    continue;
+                int vertex = edgeStarts.get(current);
+                vertices.add(xs.get(vertex / ys.size));
+                vertices.add(ys.get(vertex % ys.size));
+            }
+            ChainShape shape = new ChainShape();
+            shape.createLoop(vertices.toArray());
+            body.createFixture(shape, 0).setUserData(owner);
+            shape.dispose();
+        }
+    }
+
+    private static void addUnique(FloatArray values, float value) {
+        if (!values.contains(value))
+            values.add(value);
+    }
+
+    private static void addEdge(IntArray edgeStarts, IntArray edgeDirections, int[] outgoing, int vertex, int direction) {
+        outgoing[vertex * 2 + (outgoing[vertex * 2] < 0 ? 0 : 1)] = edgeStarts.size;
+        edgeStarts.add(vertex);
+        edgeDirections.add(direction);
+    }
+
+    // Preferring the left turn at a vertex shared by two diagonal cells splits the outline into two simple loops.
+    private static int nextEdge(IntArray edgeStarts, IntArray edgeDirections, int[] outgoing, int edge, int stride) {
+        int direction = edgeDirections.get(edge);
+        int vertex = edgeStarts.get(edge);
+        switch (direction) {
+            case RIGHT: vertex += stride; break;
+            case UP: vertex += 1; break;
+            case LEFT: vertex -= stride; break;
+            default: vertex -= 1; break;
+        }
+        int first = outgoing[vertex * 2], second = outgoing[vertex * 2 + 1];
+        if (second < 0)
+            return first;
+        int turn = (edgeDirections.get(first) - direction + 4) % 4;
+        return turn == 1 ? first : second;
+    }
+}
@@ -0,0 +1,42 @@
+package helper;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.ImageResolver;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.XmlReader;
+
+public class HeadlessTmxMapLoader extends TmxMapLoader {
+
+    private static final ImageResolver noImages = new ImageResolver() {
+        @Override
+        public TextureRegion getImage(String name) {
+            return null;
+        }
+    };
+
+    public HeadlessTmxMapLoader() {
+        super();
+    }
+
+    public HeadlessTmxMapLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public TiledMap load(String fileName, Parameters parameter) {
+        FileHandle tmxFile = resolve(fileName);
+        this.root = xml.parse(tmxFile);
+        return loadTiledMap(tmxFile, parameter, noImages);
+    }
+
+    @Override
+    protected void addStaticTiles(FileHandle tmxFile, ImageResolver imageResolver, TiledMapTileSet tileSet, XmlReader.Element element, Array<XmlReader.Element> tileElements, String name, int firstgid, int tilewidth, int tileheight, int spacing, int margin, String source, int offsetX, int offsetY, String imageSource, int imageWidth, int imageHeight, FileHandle image) {
+
+    }
+}
@@ -0,0 +1,114 @@
+package helper;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import objects.elements.Rope;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+public class InputPlayback {
+
+    private final int levelId;
+    private final float fixedDelta;
+    private final Rope.SimulationMode ropeMode;
+    private final int frames;
+    private final int[] keycodes;
+    private final DataInputStream input;
+    private int pressedMask;
+    private int justPressedMask;
+    private int lastKeyIndex;
+    private int remainingRun;
+    private int playedFrames;
+    private boolean finished;
+
+    private long frameTimeTotal;
+    private long frameTimeMax;
+    private int measuredFrames;
+
+    public InputPlayback(FileHandle file) {
+        this.input = new DataInputStream(new ByteArrayInputStream(file.readBytes()));
+        try {
+            if (input.readInt() != InputRecorder.MAGIC)
+                throw new GdxRuntimeException(file + " is not an input recording");
+            int version = input.readByte();
+            if (version < 1 || version > InputRecorder.VERSION)
+                throw new GdxRuntimeException(file + " was recorded with an unsupported version");
+            this.levelId = input.readByte();
+            this.fixedDelta = input.readFloat();
+            this.ropeMode = version >= 2 ? Rope.SimulationMode.values()[input.readByte()] : Rope.SimulationMode.BOX2D;
+            this.frames = input.readInt();
+            this.keycodes = new int[input.readByte()];
+            for (int i = 0; i < keycodes.length; i++) {
+                keycodes[i] = input.readShort();
+            }
+        } catch (IOException e) {
+            StreamUtils.closeQuietly(input);
+            throw new GdxRuntimeException("Couldn't read input recording " + file, e);
+        }
+    }
+
+    public boolean next() {
+        if (finished)
+            return false;
+        try {
+            if (remainingRun == 0) {
+                remainingRun = readVarInt();
+                if (remainingRun == 0) {
+                    finished = true;
+                    return false;
+                }
+                pressedMask = input.readUnsignedByte();
+                justPressedMask = input.readUnsignedByte();
+                lastKeyIndex = input.readByte();
+            }
+        } catch (IOException e) {
+            finished = true;
+            return false;
+        }
+        remainingRun--;
+        playedFrames++;
+        return true;
+    }
+
+    private int readVarInt() throws IOException {
+        int value = 0, shift = 0, b;
+        do {
+            b = input.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    public int getKeyCount() { return keycodes.length; }
+
+    public int getKeycode(int index) { return keycodes[index]; }
+
+    public boolean isPressed(int index) { return (pressedMask & (1 << index)) != 0; }
+
+    public boolean isJustPressed(int index) { return (justPressedMask & (1 << index)) != 0; }
+
+    public int getLastKeycode() { return lastKeyIndex < 0 ? -1 : keycodes[lastKeyIndex]; }
+
+    public void addFrameTime(long nanos) {
+        frameTimeTotal += nanos;
+        frameTimeMax = Math.max(frameTimeMax, nanos);
+        measuredFrames++;
+    }
+
+    public String getSummary() {
+        float average = measuredFrames == 0 ? 0 : frameTimeTotal / 1000000.0f / measuredFrames;
+        return "Level" + levelId + " playback: " + playedFrames + "/" + frames + " frames, avg " + average + " ms, max " + frameTimeMax / 1000000.0f + " ms";
+    }
+
+    public boolean isFinished() { return finished; }
+
+    public int getLevelId() { return levelId; }
+
+    public float getFixedDelta() { return fixedDelta; }
+
+    public Rope.SimulationMode getRopeMode() { return ropeMode; }
+}
@@ -0,0 +1,89 @@
+package helper;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import objects.elements.Rope;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public class InputRecorder {
+
+    public static final int MAGIC = 0x41445652;
+    public static final int VERSION = 2;
+
+    private final int levelId;
+    private final float fixedDelta;
+    private final Rope.SimulationMode ropeMode;
+    private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+    private int pressedMask = -1;
+    private int justPressedMask = -1;
+    private int lastKeyIndex = -1;
+    private int runLength;
+    private int frames;
+
+    public InputRecorder(int levelId, float fixedDelta, Rope.SimulationMode ropeMode) {
+        this.levelId = levelId;
+        this.fixedDelta = fixedDelta;
+        this.ropeMode = ropeMode;
+    }
+
+    public void record(int pressedMask, int justPressedMask, int lastKeyIndex) {
+        if (runLength > 0 && (pressedMask != this.pressedMask || justPressedMask != this.justPressedMask || lastKeyIndex != this.lastKeyIndex))
+            flushRun();
+        this.pressedMask = pressedMask;
+        this.justPressedMask = justPressedMask;
+        this.lastKeyIndex = lastKeyIndex;
+        runLength++;
+        frames++;
+    }
+
+    public void save(FileHandle file) {
+        if (runLength > 0)
+            flushRun();
+        DataOutputStream output = null;
+        try {
+            output = new DataOutputStream(file.write(false));
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeByte(levelId);
+            output.writeFloat(fixedDelta);
+            output.writeByte(ropeMode.ordinal());
+            output.writeInt(frames);
+            output.writeByte(CustomInputProcessor.RECORDED_KEYS.length);
+            for (int keycode : CustomInputProcessor.RECORDED_KEYS) {
+                output.writeShort(keycode);
+            }
+            data.writeTo(output);
+            writeVarInt(output, 0);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't save input recording to " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(output);
+        }
+    }
+
+    public int getFrames() { return frames; }
+
+    private void flushRun() {
+        writeVarInt(data, runLength);
+        data.write(pressedMask);
+        data.write(justPressedMask);
+        data.write(lastKeyIndex);
+        runLength = 0;
+    }
+
+    private static void writeVarInt(java.io.OutputStream output, int value) {
+        try {
+            while ((value & ~0x7F) != 0) {
+                output.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            output.write(value);
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package helper;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.FloatArray;
+
+public class InterpolatedTransform {
+
+    public static final int STRIDE = 6;
+
+    private float previousX;
+    private float previousY;
+    private float previousAngle;
+    private float x;
+    private float y;
+    private float angle;
+    private boolean initialized;
+
+    public void save(Body body) {
+        Vector2 position = body.getPosition();
+        save(position.x, position.y, body.getAngle());
+    }
+
+    public void save(float x, float y, float angle) {
+        previousX = x;
+        previousY = y;
+        previousAngle = angle;
+        initialized = true;
+    }
+
+    public void write(Body body, FloatArray out) {
+        Vector2 position = body.getPosition();
+        write(position.x, position.y, body.getAngle(), out);
+    }
+
+    public void write(float x, float y, float angle, FloatArray out) {
+        if (!initialized)
+            save(x, y, angle);
+        out.add(previousX, previousY, previousAngle);
+        out.add(x, y, angle);
+    }
+
+    public void writeSaved(FloatArray out) {
+        out.add(previousX, previousY, previousAngle);
+        out.add(previousX, previousY, previousAngle);
+    }
+
+    public int read(float[] data, int offset, float alpha) {
+        x = data[offset] + (data[offset + 3] - data[offset]) * alpha;
+        y = data[offset + 1] + (data[offset + 4] - data[offset + 1]) * alpha;
+        angle = data[offset + 2] + (data[offset + 5] - data[offset + 2]) * alpha;
+        return offset + STRIDE;
+    }
+
+    public float getX() { return x; }
+
+    public float getY() { return y; }
+
+    public float getAngle() { return angle; }
+}
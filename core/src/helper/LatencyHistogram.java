@@ -0,0 +1,60 @@
+package helper;
+
+public class LatencyHistogram {
+
+    private final long bucketNanos;
+    private final long[] counts;
+    private long overflow;
+    private long count;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public LatencyHistogram(long bucketNanos, int bucketCount) {
+        this.bucketNanos = bucketNanos;
+        this.counts = new long[bucketCount];
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0)
+            nanos = 0;
+        int bucket = (int) Math.min(nanos / bucketNanos, counts.length);
+        if (bucket == counts.length)
+            overflow++;
+        else
+            counts[bucket]++;
+        count++;
+        total += nanos;
+        min = Math.min(min, nanos);
+        max = Math.max(max, nanos);
+    }
+
+    public long getPercentile(double percentile) {
+        if (count == 0)
+            return 0;
+        long rank = (long) Math.ceil(percentile * count);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.min((i + 1) * bucketNanos, max);
+        }
+        return max;
+    }
+
+    public long getCount() { return count; }
+
+    public long getMin() { return count == 0 ? 0 : min; }
+
+    public long getMax() { return max; }
+
+    public long getMean() { return count == 0 ? 0 : total / count; }
+
+    public long getOverflow() { return overflow; }
+
+    public int getBucketCount() { return counts.length; }
+
+    public long getBucketNanos() { return bucketNanos; }
+
+    public long getBucket(int index) { return counts[index]; }
+}
@@ -0,0 +1,132 @@
+package helper;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.BaseTmxMapLoader;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.badlogic.gdx.utils.XmlReader;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+public class LevelCompiler {
+
+    private final File assetsDir;
+    private final XmlReader xml = new XmlReader();
+    private final HeadlessTmxMapLoader mapLoader = new HeadlessTmxMapLoader(new FileHandleResolver() {
+        @Override
+        public FileHandle resolve(String fileName) {
+            return new FileHandle(fileName);
+        }
+    });
+
+    public LevelCompiler(File assetsDir) {
+        this.assetsDir = assetsDir;
+    }
+
+    public static void main(String[] args) throws IOException {
+        File assetsDir = new File(args[0]);
+        File mapsDir = new File(assetsDir, "Maps");
+        LevelCompiler compiler = new LevelCompiler(assetsDir);
+        File[] maps = mapsDir.listFiles();
+        if (maps == null)
+            throw new GdxRuntimeException("No maps found in " + mapsDir);
+        for (File map : maps) {
+            if (!map.getName().endsWith(".tmx"))
+                continue;
+            File output = new File(mapsDir, map.getName().substring(0, map.getName().length() - 4) + ".lvl");
+            compiler.compile(map, output);
+            System.out.println("Compiled " + map.getName() + " -> " + output.getName() + " (" + output.length() + " bytes)");
+        }
+    }
+
+    public void compile(File tmxFile, File output) throws IOException {
+        XmlReader.Element root = xml.parse(new FileHandle(tmxFile));
+        TiledMap map = mapLoader.load(tmxFile.getPath());
+        Array<LevelData.StaticShape> shapes = LevelData.extractShapes(map.getLayers().get("objects").getObjects());
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output)));
+        try {
+            out.writeInt(LevelFormat.MAGIC);
+            out.writeShort(LevelFormat.VERSION);
+            out.writeInt(root.getIntAttribute("width"));
+            out.writeInt(root.getIntAttribute("height"));
+            out.writeInt(root.getIntAttribute("tilewidth"));
+            out.writeInt(root.getIntAttribute("tileheight"));
+
+            Array<XmlReader.Element> tilesets = root.getChildrenByName("tileset");
+            out.writeShort(tilesets.size);
+            for (XmlReader.Element tileset : tilesets) {
+                writeTileset(out, tmxFile.getParentFile(), tileset);
+            }
+
+            Array<XmlReader.Element> layers = root.getChildrenByName("layer");
+            out.writeShort(layers.size);
+            for (XmlReader.Element layer : layers) {
+                int width = layer.getIntAttribute("width");
+                int height = layer.getIntAttribute("height");
+                out.writeUTF(layer.getAttribute("name", ""));
+                out.writeBoolean(layer.getIntAttribute("visible", 1) == 1);
+                out.writeFloat(layer.getFloatAttribute("opacity", 1.0f));
+                out.writeInt(width);
+                out.writeInt(height);
+                int[] ids = BaseTmxMapLoader.getTileIds(layer, width, height);
+                boolean packed = true;
+                for (int id : ids) {
+                    packed &= (id & 0xFFFF0000) == 0;
+                }
+                out.writeByte(packed ? 2 : 4);
+                for (int id : ids) {
+                    if (packed)
+                        out.writeShort(id);
+                    else
+                        out.writeInt(id);
+                }
+            }
+
+            out.writeInt(shapes.size);
+            for (LevelData.StaticShape shape : shapes) {
+                out.writeByte(shape.type.ordinal());
+                out.writeFloat(shape.x);
+                out.writeFloat(shape.y);
+                out.writeInt(shape.width);
+                out.writeInt(shape.height);
+                out.writeShort(shape.vertices.length);
+                for (float vertex : shape.vertices) {
+                    out.writeFloat(vertex);
+                }
+            }
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
+    private void writeTileset(DataOutputStream out, File mapDir, XmlReader.Element tileset) throws IOException {
+        int firstgid = tileset.getIntAttribute("firstgid", 1);
+        File tilesetDir = mapDir;
+        String source = tileset.getAttribute("source", null);
+        if (source != null) {
+            File tsxFile = new File(mapDir, source);
+            tileset = xml.parse(new FileHandle(tsxFile));
+            tilesetDir = tsxFile.getParentFile();
+        }
+        XmlReader.Element image = tileset.getChildByName("image");
+        out.writeUTF(tileset.getAttribute("name", ""));
+        out.writeUTF(relativePath(new File(tilesetDir, image.getAttribute("source"))));
+        out.writeInt(firstgid);
+        out.writeInt(tileset.getIntAttribute("tilewidth"));
+        out.writeInt(tileset.getIntAttribute("tileheight"));
+        out.writeInt(tileset.getIntAttribute("spacing", 0));
+        out.writeInt(tileset.getIntAttribute("margin", 0));
+    }
+
+    private String relativePath(File file) throws IOException {
+        return assetsDir.getCanonicalFile().toURI().relativize(file.getCanonicalFile().toURI()).getPath();
+    }
+}
@@ -0,0 +1,90 @@
+package helper;
+
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapObjects;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.utils.Array;
+
+import static helper.Constants.PIXELS_PER_METER;
+
+public class LevelData {
+
+    public enum ShapeType {
+        GROUND,
+        LADDER,
+        BOMB,
+        FINISH;
+
+        public static ShapeType fromName(String name) {
+            switch (name) {
+                case "ladder":
+                    return LADDER;
+                case "bomb":
+                    return BOMB;
+                case "finish":
+                    return FINISH;
+                case "ground":
+                default:
+                    return GROUND;
+            }
+        }
+    }
+
+    public static class StaticShape {
+        public final ShapeType type;
+        public final float x;
+        public final float y;
+        public final int width;
+        public final int height;
+        public final float[] vertices;
+
+        public StaticShape(ShapeType type, float x, float y, int width, int height, float[] vertices) {
+            this.type = type;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.vertices = vertices;
+        }
+    }
+
+    public final TiledMap map;
+    public final float width;
+    public final float height;
+    public final Array<StaticShape> shapes;
+
+    public LevelData(TiledMap map, Array<StaticShape> shapes) {
+        this.map = map;
+        this.width = map.getProperties().get("width", Integer.class) * map.getProperties().get("tilewidth", Integer.class);
+        this.height = map.getProperties().get("height", Integer.class) * map.getProperties().get("tileheight", Integer.class);
+        this.shapes = shapes;
+    }
+
+    public static String assetName(int levelId) { return "Maps/Level" + levelId + ".lvl"; }
+
+    public static Array<StaticShape> extractShapes(MapObjects mapObjects) {
+        Array<StaticShape> shapes = new Array<>();
+        for (MapObject mapObject : mapObjects) {
+            if (!(mapObject instanceof PolygonMapObject) || mapObject.getName() == null)
+                continue;
+            Polygon polygon = ((PolygonMapObject) mapObject).getPolygon();
+            float[] vertices = polygon.getTransformedVertices();
+            float minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+            float[] worldVertices = new float[vertices.length];
+            for (int i = 0; i < vertices.length; i += 2) {
+                minX = Math.min(minX, vertices[i]);
+                maxX = Math.max(maxX, vertices[i]);
+                minY = Math.min(minY, vertices[i + 1]);
+                maxY = Math.max(maxY, vertices[i + 1]);
+                worldVertices[i] = vertices[i] / PIXELS_PER_METER;
+                worldVertices[i + 1] = vertices[i + 1] / PIXELS_PER_METER;
+            }
+            int width = (int) Math.abs(minX - maxX);
+            int height = (int) Math.abs(minY - maxY);
+            shapes.add(new StaticShape(ShapeType.fromName(mapObject.getName()), polygon.getX() / PIXELS_PER_METER, polygon.getY() / PIXELS_PER_METER - height / PIXELS_PER_METER, width, height, worldVertices));
+        }
+        return shapes;
+    }
+}
@@ -0,0 +1,239 @@
+package helper;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSets;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+public class LevelDataLoader extends AsynchronousAssetLoader<LevelData, LevelDataLoader.Parameters> {
+
+    public static class Parameters extends AssetLoaderParameters<LevelData> {
+
+    }
+
+    private static class TilesetRecord {
+        String name;
+        String imagePath;
+        int firstgid;
+        int tileWidth;
+        int tileHeight;
+        int spacing;
+        int margin;
+    }
+
+    private ByteBuffer buffer;
+    private int width;
+    private int height;
+    private int tileWidth;
+    private int tileHeight;
+    private final Array<TilesetRecord> tilesets = new Array<>();
+    private LevelData levelData;
+
+    public LevelDataLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    public static LevelData load(FileHandle file) {
+        LevelDataLoader loader = new LevelDataLoader(null);
+        loader.readHeader(file);
+        return loader.readBody(null);
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+        readHeader(file);
+        Array<AssetDescriptor> dependencies = new Array<>();
+        if (!GameAssets.isHeadless()) {
+            for (TilesetRecord tileset : tilesets) {
+                dependencies.add(new AssetDescriptor<>(tileset.imagePath, Texture.class));
+            }
+        }
+        return dependencies;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        if (buffer == null)
+            readHeader(file);
+        levelData = readBody(GameAssets.isHeadless() ? null : manager);
+    }
+
+    @Override
+    public LevelData loadSync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        LevelData levelData = this.levelData;
+        this.levelData = null;
+        return levelData;
+    }
+
+    private void readHeader(FileHandle file) {
+        try {
+            buffer = file.map();
+        } catch (GdxRuntimeException e) {
+            buffer = ByteBuffer.wrap(file.readBytes());
+        }
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.getInt() != LevelFormat.MAGIC)
+            throw new GdxRuntimeException(file + " is not a compiled level");
+        if (buffer.getShort() != LevelFormat.VERSION)
+            throw new GdxRuntimeException(file + " was compiled with an unsupported level format version");
+        width = buffer.getInt();
+        height = buffer.getInt();
+        tileWidth = buffer.getInt();
+        tileHeight = buffer.getInt();
+
+        tilesets.clear();
+        int tilesetCount = buffer.getShort();
+        for (int i = 0; i < tilesetCount; i++) {
+            TilesetRecord tileset = new TilesetRecord();
+            tileset.name = readString();
+            tileset.imagePath = readString();
+            tileset.firstgid = buffer.getInt();
+            tileset.tileWidth = buffer.getInt();
+            tileset.tileHeight = buffer.getInt();
+            tileset.spacing = buffer.getInt();
+            tileset.margin = buffer.getInt();
+            tilesets.add(tileset);
+        }
+    }
+
+    private LevelData readBody(AssetManager manager) {
+        TiledMap map = new TiledMap();
+        MapProperties properties = map.getProperties();
+        properties.put("orientation", "orthogonal");
+        properties.put("width", width);
+        properties.put("height", height);
+        properties.put("tilewidth", tileWidth);
+        properties.put("tileheight", tileHeight);
+
+        for (TilesetRecord tileset : tilesets) {
+            map.getTileSets().addTileSet(createTileset(tileset, manager == null ? null : manager.get(tileset.imagePath, Texture.class)));
+        }
+
+        int layerCount = buffer.getShort();
+        int[] ids = new int[0];
+        short[] packedIds = new short[0];
+        for (int i = 0; i < layerCount; i++) {
+            String name = readString();
+            boolean visible = buffer.get() != 0;
+            float opacity = buffer.getFloat();
+            int layerWidth = buffer.getInt();
+            int layerHeight = buffer.getInt();
+            int tileCount = layerWidth * layerHeight;
+            int bytesPerTile = buffer.get();
+            if (ids.length < tileCount)
+                ids = new int[tileCount];
+            if (bytesPerTile == 2) {
+                if (packedIds.length < tileCount)
+                    packedIds = new short[tileCount];
+                buffer.asShortBuffer().get(packedIds, 0, tileCount);
+                for (int j = 0; j < tileCount; j++) {
+                    ids[j] = packedIds[j] & 0xFFFF;
+                }
+            } else {
+                buffer.asIntBuffer().get(ids, 0, tileCount);
+            }
+            buffer.position(buffer.position() + tileCount * bytesPerTile);
+
+            TiledMapTileLayer layer = new TiledMapTileLayer(layerWidth, layerHeight, tileWidth, tileHeight);
+            layer.setName(name);
+            layer.setVisible(visible);
+            layer.setOpacity(opacity);
+            fillLayer(layer, map.getTileSets(), ids);
+            map.getLayers().add(layer);
+        }
+
+        int shapeCount = buffer.getInt();
+        Array<LevelData.StaticShape> shapes = new Array<>(shapeCount);
+        LevelData.ShapeType[] types = LevelData.ShapeType.values();
+        for (int i = 0; i < shapeCount; i++) {
+            LevelData.ShapeType type = types[buffer.get()];
+            float x = buffer.getFloat();
+            float y = buffer.getFloat();
+            int shapeWidth = buffer.getInt();
+            int shapeHeight = buffer.getInt();
+            float[] vertices = new float[buffer.getShort()];
+            buffer.asFloatBuffer().get(vertices);
+            buffer.position(buffer.position() + vertices.length * 4);
+            shapes.add(new LevelData.StaticShape(type, x, y, shapeWidth, shapeHeight, vertices));
+        }
+        buffer = null;
+        return new LevelData(map, shapes);
+    }
+
+    private TiledMapTileSet createTileset(TilesetRecord record, Texture texture) {
+        TiledMapTileSet tileset = new TiledMapTileSet();
+        tileset.setName(record.name);
+        tileset.getProperties().put("firstgid", record.firstgid);
+        if (texture == null)
+            return tileset;
+        int id = record.firstgid;
+        for (int y = record.margin; y <= texture.getHeight() - record.tileHeight; y += record.tileHeight + record.spacing) {
+            for (int x = record.margin; x <= texture.getWidth() - record.tileWidth; x += record.tileWidth + record.spacing) {
+                StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion(texture, x, y, record.tileWidth, record.tileHeight));
+                tile.setId(id);
+                tileset.putTile(id++, tile);
+            }
+        }
+        return tileset;
+    }
+
+    private void fillLayer(TiledMapTileLayer layer, TiledMapTileSets tilesets, int[] ids) {
+        int layerWidth = layer.getWidth();
+        int layerHeight = layer.getHeight();
+        for (int y = 0; y < layerHeight; y++) {
+            for (int x = 0; x < layerWidth; x++) {
+                int id = ids[y * layerWidth + x];
+                TiledMapTile tile = tilesets.getTile(id & ~LevelFormat.MASK_CLEAR);
+                if (tile == null)
+                    continue;
+                TiledMapTileLayer.Cell cell = createCell((id & LevelFormat.FLAG_FLIP_HORIZONTALLY) != 0, (id & LevelFormat.FLAG_FLIP_VERTICALLY) != 0, (id & LevelFormat.FLAG_FLIP_DIAGONALLY) != 0);
+                cell.setTile(tile);
+                layer.setCell(x, layerHeight - 1 - y, cell);
+            }
+        }
+    }
+
+    private TiledMapTileLayer.Cell createCell(boolean flipHorizontally, boolean flipVertically, boolean flipDiagonally) {
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        if (flipDiagonally) {
+            if (flipHorizontally && flipVertically) {
+                cell.setFlipHorizontally(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipHorizontally) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipVertically) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_90);
+            } else {
+                cell.setFlipVertically(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            }
+        } else {
+            cell.setFlipHorizontally(flipHorizontally);
+            cell.setFlipVertically(flipVertically);
+        }
+        return cell;
+    }
+
+    private String readString() {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
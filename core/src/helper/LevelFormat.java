@@ -0,0 +1,12 @@
+package helper;
+
+public class LevelFormat {
+
+    public static final int MAGIC = 0x4144564C;
+    public static final int VERSION = 1;
+
+    public static final int FLAG_FLIP_HORIZONTALLY = 0x80000000;
+    public static final int FLAG_FLIP_VERTICALLY = 0x40000000;
+    public static final int FLAG_FLIP_DIAGONALLY = 0x20000000;
+    public static final int MASK_CLEAR = 0xE0000000;
+}
@@ -0,0 +1,50 @@
+package helper;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.FloatArray;
+
+public class LevelSnapshot {
+
+    private static final int STRIDE = 6;
+
+    private final Array<Body> bodies = new Array<>();
+    private final FloatArray states = new FloatArray();
+    private final BooleanArray active = new BooleanArray();
+    private final BooleanArray awake = new BooleanArray();
+
+    public void capture(World world) {
+        bodies.clear();
+        states.clear();
+        active.clear();
+        awake.clear();
+        world.getBodies(bodies);
+        for (int i = 0; i < bodies.size; i++) {
+            Body body = bodies.get(i);
+            Vector2 position = body.getPosition();
+            Vector2 velocity = body.getLinearVelocity();
+            states.add(position.x, position.y, body.getAngle());
+            states.add(velocity.x, velocity.y, body.getAngularVelocity());
+            active.add(body.isActive());
+            awake.add(body.isAwake());
+        }
+    }
+
+    public void restore() {
+        float[] items = states.items;
+        for (int i = 0; i < bodies.size; i++) {
+            Body body = bodies.get(i);
+            int offset = i * STRIDE;
+            body.setTransform(items[offset], items[offset + 1], items[offset + 2]);
+            body.setLinearVelocity(items[offset + 3], items[offset + 4]);
+            body.setAngularVelocity(items[offset + 5]);
+            body.setActive(active.get(i));
+            body.setAwake(awake.get(i));
+        }
+    }
+
+    public int getBodyCount() { return bodies.size; }
+}
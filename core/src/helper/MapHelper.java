@@ -1,14 +1,6 @@
 package helper;
 
-import com.adventurer.game.GameScreen;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.MapObjects;
-import com.badlogic.gdx.maps.objects.PolygonMapObject;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
-import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
@@ -16,12 +8,9 @@ import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.Shape;
 import levels.GameLevel;
 import objects.elements.*;
-import objects.player.Adventurer;
 
 import java.awt.*;
 
-import static helper.Constants.PIXELS_PER_METER;
-
 public class MapHelper {
 
     private TiledMap tiledMap;
@@ -31,78 +20,52 @@ public class MapHelper {
         this.level = level;
     }
 
-    public OrthogonalTiledMapRenderer setupMap(String pathname) {
-        tiledMap = new TmxMapLoader().load(pathname);
-        parseMapObjects(tiledMap.getLayers().get("objects").getObjects());
-        return new OrthogonalTiledMapRenderer(tiledMap);
+    public CachedTileMapRenderer setupMap(String pathname) {
+        LevelData levelData = GameAssets.levelData(pathname.endsWith(".tmx") ? pathname.substring(0, pathname.length() - 4) + ".lvl" : pathname);
+        tiledMap = levelData.map;
+        level.initializeRegistries(levelData.width, levelData.height);
+        GroundChainBuilder groundChains = new GroundChainBuilder();
+        for (int i = 0; i < levelData.shapes.size; i++) {
+            LevelData.StaticShape staticShape = levelData.shapes.get(i);
+            if (staticShape.type == LevelData.ShapeType.GROUND)
+                groundChains.add(level.getGrounds().add(new Ground(new Vector2(staticShape.x, staticShape.y), new Dimension(staticShape.width, staticShape.height))), staticShape.vertices);
+            else
+                createStaticBody(staticShape);
+        }
+        groundChains.build(level.getWorld());
+        if (GameAssets.isHeadless())
+            return null;
+        return new CachedTileMapRenderer(tiledMap);
     }
 
     public TiledMap getTiledMap() { return tiledMap; }
 
-    private void parseMapObjects(MapObjects mapObjects) {
-
-        for (MapObject mapObject : mapObjects) {
-            if (mapObject instanceof PolygonMapObject) {
-                createStaticBody((PolygonMapObject) mapObject);
-            }
-        }
-    }
-
-    private void createStaticBody(PolygonMapObject polygonMapObject) {
+    private void createStaticBody(LevelData.StaticShape staticShape) {
         BodyDef bodyDef = new BodyDef();
         bodyDef.type = BodyDef.BodyType.StaticBody;
-        float[] vertices = polygonMapObject.getPolygon().getTransformedVertices();
-        float minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
-        for (int i = 0; i < vertices.length; i += 2) {
-            minX = Math.min(minX, vertices[i]);
-            maxX = Math.max(maxX, vertices[i]);
-        }
-        for (int i = 1; i < vertices.length; i += 2) {
-            minY = Math.min(minY, vertices[i]);
-            maxY = Math.max(maxY, vertices[i]);
-        }
-        int width = (int)Math.abs(minX - maxX);
-        int height = (int)Math.abs(minY - maxY);
-        GameMapObject object;
-        if (polygonMapObject.getName() != null) {
-            switch (polygonMapObject.getName()) {
-                case "ground":
-                    object = new Ground(new Vector2(polygonMapObject.getPolygon().getX() / PIXELS_PER_METER, polygonMapObject.getPolygon().getY() / PIXELS_PER_METER - height / PIXELS_PER_METER), new Dimension(width, height));
-                    break;
-                case "bomb":
-                    object = new Bomb(new Vector2(polygonMapObject.getPolygon().getX() / PIXELS_PER_METER, polygonMapObject.getPolygon().getY() / PIXELS_PER_METER - height / PIXELS_PER_METER), new Dimension(width, height));
-                    break;
-                case "ladder":
-                    object = new Ladder(new Vector2(polygonMapObject.getPolygon().getX() / PIXELS_PER_METER, polygonMapObject.getPolygon().getY() / PIXELS_PER_METER - height / PIXELS_PER_METER), new Dimension(width, height));
-                    break;
-                case "finish":
-                    object = new Finish(new Vector2(polygonMapObject.getPolygon().getX() / PIXELS_PER_METER, polygonMapObject.getPolygon().getY() / PIXELS_PER_METER - height / PIXELS_PER_METER), new Dimension(width, height));
-                    break;
-                default:
-                    object = new Ground(new Vector2(polygonMapObject.getPolygon().getX() / PIXELS_PER_METER, polygonMapObject.getPolygon().getY() / PIXELS_PER_METER - height / PIXELS_PER_METER), new Dimension(width, height));
-                    break;
-            }
-            Body body = level.getWorld().createBody(bodyDef);
-            Shape shape = createPolygonShape(polygonMapObject);
-            level.appendMapObjects(object);
-            body.setUserData(object);
-            body.createFixture(shape, 10000f).setUserData(object);
-            object.setBody(body);
-            shape.dispose();
+        Vector2 position = new Vector2(staticShape.x, staticShape.y);
+        Dimension dimension = new Dimension(staticShape.width, staticShape.height);
+        Body body = level.getWorld().createBody(bodyDef);
+        PolygonShape shape = new PolygonShape();
+        shape.set(staticShape.vertices);
+        switch (staticShape.type) {
+            case BOMB:
+                level.getBombs().add(attachBody(new Bomb(position, dimension), body, shape));
+                break;
+            case LADDER:
+                level.getLadders().add(attachBody(new Ladder(position, dimension), body, shape));
+                break;
+            case FINISH:
+                level.getFinishes().add(attachBody(new Finish(position, dimension), body, shape));
+                break;
         }
+        shape.dispose();
     }
 
-    private Shape createPolygonShape(PolygonMapObject polygonMapObject) {
-        float[] vertices = polygonMapObject.getPolygon().getTransformedVertices();
-        Vector2[] worldVertices = new Vector2[vertices.length / 2];
-
-        for (int i = 0; i < vertices.length / 2; i++) {
-            Vector2 current = new Vector2(vertices[i * 2] / PIXELS_PER_METER, vertices[i * 2 + 1] / PIXELS_PER_METER);
-            worldVertices[i] = current;
-        }
-
-        PolygonShape shape = new PolygonShape();
-        shape.set(worldVertices);
-        return shape;
+    private <T extends GameMapObject> T attachBody(T object, Body body, Shape shape) {
+        body.setUserData(object);
+        body.createFixture(shape, 10000f).setUserData(object);
+        object.setBody(body);
+        return object;
     }
 }
@@ -0,0 +1,43 @@
+package helper;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import objects.elements.GameMapObject;
+
+import static helper.Constants.SPATIAL_GRID_CELL_SIZE;
+
+public class MapObjectRegistry<T extends GameMapObject> {
+
+    private final Array<T> objects;
+    private final SpatialGrid<T> grid;
+
+    public MapObjectRegistry(BoundsStore boundsStore, float width, float height) {
+        this.objects = new Array<>();
+        this.grid = new SpatialGrid<>(boundsStore, width, height, SPATIAL_GRID_CELL_SIZE);
+    }
+
+    public T add(T object) {
+        objects.add(object);
+        grid.insert(object);
+        return object;
+    }
+
+    public void remove(T object) {
+        objects.removeValue(object, true);
+        grid.remove(object);
+    }
+
+    public Array<T> query(Rectangle area, Array<T> result) { return grid.query(area, result); }
+
+    public void updateDynamicObjects() { grid.updateDynamicObjects(); }
+
+    public void updateObjects() {
+        for (int i = 0; i < objects.size; i++) {
+            grid.update(objects.get(i));
+        }
+    }
+
+    public Array<T> getObjects() { return objects; }
+
+    public int size() { return objects.size; }
+}
@@ -0,0 +1,125 @@
+package helper;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+public class MetricsWriter {
+
+    private final FileHandle directory;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "MetricsWriter");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    public MetricsWriter(FileHandle directory) {
+        this.directory = directory;
+    }
+
+    public void submit(final FrameMetrics metrics) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                String name = "level" + metrics.levelId + "-" + metrics.startTime;
+                try {
+                    directory.mkdirs();
+                    writeCsv(metrics, directory.child(name + ".csv"));
+                    writeJson(metrics, directory.child(name + ".json"));
+                } catch (IOException e) {
+                    Gdx.app.error("MetricsWriter", "Couldn't write " + name, e);
+                }
+            }
+        });
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeCsv(FrameMetrics metrics, FileHandle file) throws IOException {
+        Writer writer = file.writer(false, "UTF-8");
+        try {
+            writer.write("level,metric,frame,ms,count\n");
+            writeHistogramRows(writer, metrics.levelId, "frame", metrics.frameTimes);
+            writeHistogramRows(writer, metrics.levelId, "step", metrics.stepTimes);
+            for (int i = 0; i < metrics.gcEvents; i++) {
+                writer.write(metrics.levelId + ",gc," + metrics.gcEventFrames[i] + "," + metrics.gcEventMillis[i] + "," + metrics.gcEventCounts[i] + "\n");
+            }
+        } finally {
+            StreamUtils.closeQuietly(writer);
+        }
+    }
+
+    private void writeHistogramRows(Writer writer, int levelId, String metric, LatencyHistogram histogram) throws IOException {
+        for (int i = 0; i < histogram.getBucketCount(); i++) {
+            if (histogram.getBucket(i) != 0)
+                writer.write(levelId + "," + metric + ",," + millis((i + 1) * histogram.getBucketNanos()) + "," + histogram.getBucket(i) + "\n");
+        }
+        if (histogram.getOverflow() != 0)
+            writer.write(levelId + "," + metric + ",,inf," + histogram.getOverflow() + "\n");
+    }
+
+    private void writeJson(FrameMetrics metrics, FileHandle file) throws IOException {
+        JsonWriter json = new JsonWriter(file.writer(false, "UTF-8"));
+        try {
+            json.object()
+                    .set("level", metrics.levelId)
+                    .set("startTime", metrics.startTime)
+                    .set("durationMs", metrics.endTime - metrics.startTime)
+                    .set("levelFinished", metrics.levelFinished)
+                    .set("frames", metrics.getFrames());
+            writeHistogramSummary(json, "frameMs", metrics.frameTimes);
+            writeHistogramSummary(json, "stepMs", metrics.stepTimes);
+            int frames = Math.max(1, metrics.getFrames());
+            json.object("objects")
+                    .set("drawnPerFrame", (float) metrics.renderedObjects / frames)
+                    .set("culledPerFrame", (float) metrics.culledObjects / frames)
+                    .pop();
+            json.array("gcEvents");
+            for (int i = 0; i < metrics.gcEvents; i++) {
+                json.object()
+                        .set("frame", metrics.gcEventFrames[i])
+                        .set("collections", metrics.gcEventCounts[i])
+                        .set("ms", metrics.gcEventMillis[i])
+                        .pop();
+            }
+            json.pop();
+            json.set("droppedGcEvents", metrics.droppedGcEvents);
+            json.pop();
+        } finally {
+            StreamUtils.closeQuietly(json);
+        }
+    }
+
+    private void writeHistogramSummary(JsonWriter json, String name, LatencyHistogram histogram) throws IOException {
+        json.object(name)
+                .set("count", histogram.getCount())
+                .set("min", millis(histogram.getMin()))
+                .set("mean", millis(histogram.getMean()))
+                .set("p50", millis(histogram.getPercentile(0.5)))
+                .set("p90", millis(histogram.getPercentile(0.9)))
+                .set("p99", millis(histogram.getPercentile(0.99)))
+                .set("p999", millis(histogram.getPercentile(0.999)))
+                .set("max", millis(histogram.getMax()))
+                .pop();
+    }
+
+    private static double millis(long nanos) { return nanos / 1000000.0; }
+}
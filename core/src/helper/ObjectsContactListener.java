@@ -1,29 +1,101 @@
 package helper;
 
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
 import objects.player.Adventurer;
+import objects.player.GameEntity;
 
 public class ObjectsContactListener implements ContactListener {
 
+    public enum ContactEventType {
+        BEGIN,
+        END
+    }
+
+    public static class ContactEvent implements Pool.Poolable {
+        public ContactEventType type;
+        public Fixture fixtureA;
+        public Fixture fixtureB;
+        public Object objectA;
+        public Object objectB;
+
+        public Object getOtherObject(Object object) {
+            if (objectA == object)
+                return objectB;
+            if (objectB == object)
+                return objectA;
+            return null;
+        }
+
+        @Override
+        public void reset() {
+            type = null;
+            fixtureA = null;
+            fixtureB = null;
+            objectA = null;
+            objectB = null;
+        }
+    }
+
+    public interface ContactEventHandler {
+        void handleContactEvent(ContactEvent event);
+    }
+
+    private static final Array<Fixture> noContacts = new Array<>(0);
+
     protected Object objectA;
     protected Object objectB;
     public Object lastAdventurerContact;
 
+    private final ObjectMap<Fixture, Array<Fixture>> activeContacts = new ObjectMap<>();
+    private final Array<Object> adventurerContacts = new Array<>();
+    private final Array<ContactEvent> pendingEvents = new Array<>();
+    private final Array<ContactEvent> dispatchedEvents = new Array<>();
+    private final Pool<ContactEvent> eventPool = new Pool<ContactEvent>() {
+        @Override
+        protected ContactEvent newObject() {
+            return new ContactEvent();
+        }
+    };
+    private final Pool<Array<Fixture>> contactsPool = new Pool<Array<Fixture>>() {
+        @Override
+        protected Array<Fixture> newObject() {
+            return new Array<>(false, 4);
+        }
+    };
+
     @Override
     public void beginContact(Contact contact) {
         Fixture fixtureA = contact.getFixtureA();
         Fixture fixtureB = contact.getFixtureB();
 
         if (fixtureA == null || fixtureB == null) return;
+
+        addActiveContact(fixtureA, fixtureB);
+        addActiveContact(fixtureB, fixtureA);
+
         if (fixtureA.getUserData() == null || fixtureB.getUserData() == null) return;
 
+        if (fixtureA.getUserData() instanceof GameEntity.FootSensor && isGround(fixtureB))
+            ((GameEntity.FootSensor) fixtureA.getUserData()).beginGroundContact();
+        if (fixtureB.getUserData() instanceof GameEntity.FootSensor && isGround(fixtureA))
+            ((GameEntity.FootSensor) fixtureB.getUserData()).beginGroundContact();
+
         objectA = fixtureA.getUserData();
         objectB = fixtureB.getUserData();
 
-        if (objectA instanceof Adventurer)
+        if (objectA instanceof Adventurer) {
+            adventurerContacts.add(objectB);
             lastAdventurerContact = objectB;
-        if (objectB instanceof Adventurer)
+        }
+        if (objectB instanceof Adventurer) {
+            adventurerContacts.add(objectA);
             lastAdventurerContact = objectA;
+        }
+
+        publishEvent(ContactEventType.BEGIN, fixtureA, fixtureB);
     }
 
     @Override
@@ -32,11 +104,27 @@ public class ObjectsContactListener implements ContactListener {
         Fixture fixtureB = contact.getFixtureB();
 
         if (fixtureA == null || fixtureB == null) return;
+
+        removeActiveContact(fixtureA, fixtureB);
+        removeActiveContact(fixtureB, fixtureA);
+
         if (fixtureA.getUserData() == null || fixtureB.getUserData() == null) return;
 
+        if (fixtureA.getUserData() instanceof GameEntity.FootSensor && isGround(fixtureB))
+            ((GameEntity.FootSensor) fixtureA.getUserData()).endGroundContact();
+        if (fixtureB.getUserData() instanceof GameEntity.FootSensor && isGround(fixtureA))
+            ((GameEntity.FootSensor) fixtureB.getUserData()).endGroundContact();
+
         objectA = null;
         objectB = null;
-        lastAdventurerContact = null;
+
+        if (fixtureA.getUserData() instanceof Adventurer)
+            adventurerContacts.removeValue(fixtureB.getUserData(), true);
+        if (fixtureB.getUserData() instanceof Adventurer)
+            adventurerContacts.removeValue(fixtureA.getUserData(), true);
+        lastAdventurerContact = adventurerContacts.size > 0 ? adventurerContacts.peek() : null;
+
+        publishEvent(ContactEventType.END, fixtureA, fixtureB);
     }
 
     @Override
@@ -49,6 +137,28 @@ public class ObjectsContactListener implements ContactListener {
 
     }
 
+    public void dispatchEvents(ContactEventHandler handler) {
+        dispatchedEvents.addAll(pendingEvents);
+        pendingEvents.clear();
+        for (int i = 0; i < dispatchedEvents.size; i++) {
+            handler.handleContactEvent(dispatchedEvents.get(i));
+        }
+        eventPool.freeAll(dispatchedEvents);
+        dispatchedEvents.clear();
+    }
+
+    public void clearEvents() {
+        eventPool.freeAll(pendingEvents);
+        pendingEvents.clear();
+    }
+
+    public Array<Fixture> getContacts(Fixture fixture) {
+        Array<Fixture> contacts = activeContacts.get(fixture);
+        return contacts == null ? noContacts : contacts;
+    }
+
+    public int getContactsCount(Fixture fixture) { return getContacts(fixture).size; }
+
     public boolean isContactDetected() {
         return objectA != null && objectB != null;
     }
@@ -56,4 +166,41 @@ public class ObjectsContactListener implements ContactListener {
     public Object getObjectA() { return objectA; }
 
     public Object getObjectB() { return objectB; }
+
+    private boolean isGround(Fixture fixture) {
+        Object userData = fixture.getUserData();
+        return !fixture.isSensor() && !(userData instanceof Body) && !(userData instanceof GameEntity) && !(userData instanceof GameEntity.FootSensor);
+    }
+
+    private void publishEvent(ContactEventType type, Fixture fixtureA, Fixture fixtureB) {
+        if (!fixtureA.isSensor() && !fixtureB.isSensor() && !(fixtureA.getUserData() instanceof Adventurer) && !(fixtureB.getUserData() instanceof Adventurer))
+            return;
+        ContactEvent event = eventPool.obtain();
+        event.type = type;
+        event.fixtureA = fixtureA;
+        event.fixtureB = fixtureB;
+        event.objectA = fixtureA.getUserData();
+        event.objectB = fixtureB.getUserData();
+        pendingEvents.add(event);
+    }
+
+    private void addActiveContact(Fixture fixture, Fixture other) {
+        Array<Fixture> contacts = activeContacts.get(fixture);
+        if (contacts == null) {
+            contacts = contactsPool.obtain();
+            activeContacts.put(fixture, contacts);
+        }
+        contacts.add(other);
+    }
+
+    private void removeActiveContact(Fixture fixture, Fixture other) {
+        Array<Fixture> contacts = activeContacts.get(fixture);
+        if (contacts == null)
+            return;
+        contacts.removeValue(other, true);
+        if (contacts.size == 0) {
+            activeContacts.remove(fixture);
+            contactsPool.free(contacts);
+        }
+    }
 }
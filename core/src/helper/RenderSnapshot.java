@@ -0,0 +1,38 @@
+package helper;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import objects.elements.GameMapObject;
+import objects.player.Adventurer;
+
+public class RenderSnapshot {
+
+    public final Array<GameMapObject> objects = new Array<>();
+    public final IntArray offsets = new IntArray();
+    public final FloatArray transforms = new FloatArray();
+    public final FloatArray adventurerTransform = new FloatArray(InterpolatedTransform.STRIDE);
+    public Adventurer.AdventurerState adventurerState;
+    public int healthPoints;
+    public int coinsCollected;
+    public int bodyCount;
+    public int contactCount;
+    public int jointCount;
+    public int suspendedObjects;
+    public long publishTime;
+
+    public void clear() {
+        objects.clear();
+        offsets.clear();
+        transforms.clear();
+        adventurerTransform.clear();
+        adventurerState = null;
+        healthPoints = 0;
+        coinsCollected = 0;
+        bodyCount = 0;
+        contactCount = 0;
+        jointCount = 0;
+        suspendedObjects = 0;
+        publishTime = 0;
+    }
+}
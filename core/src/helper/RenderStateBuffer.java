@@ -0,0 +1,37 @@
+package helper;
+
+public class RenderStateBuffer {
+
+    private final RenderSnapshot[] snapshots = new RenderSnapshot[] {
+            new RenderSnapshot(),
+            new RenderSnapshot(),
+            new RenderSnapshot()
+    };
+    private int writeIndex = 0;
+    private int latestIndex = 1;
+    private int readIndex = 2;
+    private boolean latestUnread;
+
+    public RenderSnapshot beginWrite() {
+        RenderSnapshot snapshot = snapshots[writeIndex];
+        snapshot.clear();
+        return snapshot;
+    }
+
+    public synchronized void publish() {
+        int index = latestIndex;
+        latestIndex = writeIndex;
+        writeIndex = index;
+        latestUnread = true;
+    }
+
+    public synchronized RenderSnapshot acquire() {
+        if (latestUnread) {
+            int index = readIndex;
+            readIndex = latestIndex;
+            latestIndex = index;
+            latestUnread = false;
+        }
+        return snapshots[readIndex];
+    }
+}
@@ -0,0 +1,135 @@
+package helper;
+
+public class RewindBuffer {
+
+    private final int[] groupOffsets;
+    private final int channels;
+    private final int maskBytes;
+    private final int maxFrameBytes;
+    private final int[] current;
+    private final byte[] data;
+    private final int[] frameStarts;
+    private int head;
+    private int tail;
+    private int firstFrame;
+    private int frameCount;
+
+    public RewindBuffer(int[] groupSizes, int maxFrames, int capacityBytes) {
+        this.groupOffsets = new int[groupSizes.length + 1];
+        for (int i = 0; i < groupSizes.length; i++) {
+            groupOffsets[i + 1] = groupOffsets[i] + groupSizes[i];
+        }
+        this.channels = groupOffsets[groupSizes.length];
+        this.maskBytes = (groupSizes.length + 7) / 8;
+        this.maxFrameBytes = maskBytes + channels * 5;
+        this.current = new int[channels];
+        this.data = new byte[Math.max(capacityBytes, maxFrameBytes)];
+        this.frameStarts = new int[maxFrames];
+    }
+
+    public int getChannelCount() { return channels; }
+
+    public int getGroupOffset(int group) { return groupOffsets[group]; }
+
+    public void capture(int[] values) {
+        while (frameCount > 0 && (frameCount == frameStarts.length || head - tail + maxFrameBytes > data.length))
+            evictOldest();
+        frameStarts[(firstFrame + frameCount) % frameStarts.length] = head;
+        frameCount++;
+        int maskPosition = head;
+        head += maskBytes;
+        for (int group = 0; group < groupOffsets.length - 1; group++) {
+            boolean changed = false;
+            for (int channel = groupOffsets[group]; channel < groupOffsets[group + 1]; channel++) {
+                if (values[channel] != current[channel]) {
+                    changed = true;
+                    break;
+                }
+            }
+            if (!changed)
+                continue;
+            int maskByte = maskPosition + group / 8;
+            data[maskByte % data.length] |= 1 << (group % 8);
+            for (int channel = groupOffsets[group]; channel < groupOffsets[group + 1]; channel++) {
+                writeVarInt(values[channel] - current[channel]);
+                current[channel] = values[channel];
+            }
+        }
+    }
+
+    public boolean rewind(int[] values) {
+        if (frameCount < 2)
+            return false;
+        frameCount--;
+        int position = frameStarts[(firstFrame + frameCount) % frameStarts.length];
+        int maskPosition = position;
+        position += maskBytes;
+        for (int group = 0; group < groupOffsets.length - 1; group++) {
+            int maskByte = maskPosition + group / 8;
+            if ((data[maskByte % data.length] & (1 << (group % 8))) == 0)
+                continue;
+            for (int channel = groupOffsets[group]; channel < groupOffsets[group + 1]; channel++) {
+                int value = 0;
+                int shift = 0;
+                int b;
+                do {
+                    b = data[position++ % data.length];
+                    value |= (b & 0x7f) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                current[channel] -= (value >>> 1) ^ -(value & 1);
+            }
+        }
+        clearBytes(maskPosition, head);
+        head = maskPosition;
+        System.arraycopy(current, 0, values, 0, channels);
+        return true;
+    }
+
+    public void clear() {
+        clearBytes(tail, head);
+        head = 0;
+        tail = 0;
+        firstFrame = 0;
+        frameCount = 0;
+        for (int i = 0; i < channels; i++) {
+            current[i] = 0;
+        }
+    }
+
+    public int getFrameCount() { return frameCount; }
+
+    public int getUsedBytes() { return head - tail; }
+
+    public int getCapacityBytes() { return data.length; }
+
+    private void evictOldest() {
+        firstFrame = (firstFrame + 1) % frameStarts.length;
+        frameCount--;
+        int start = frameCount > 0 ? frameStarts[firstFrame] : head;
+        clearBytes(tail, start);
+        tail = start;
+        if (tail >= data.length) {
+            tail -= data.length;
+            head -= data.length;
+            for (int i = 0; i < frameCount; i++) {
+                frameStarts[(firstFrame + i) % frameStarts.length] -= data.length;
+            }
+        }
+    }
+
+    private void clearBytes(int from, int to) {
+        for (int i = from; i < to; i++) {
+            data[i % data.length] = 0;
+        }
+    }
+
+    private void writeVarInt(int value) {
+        int encoded = (value << 1) ^ (value >> 31);
+        while ((encoded & ~0x7f) != 0) {
+            data[head++ % data.length] = (byte) ((encoded & 0x7f) | 0x80);
+            encoded >>>= 7;
+        }
+        data[head++ % data.length] = (byte) encoded;
+    }
+}
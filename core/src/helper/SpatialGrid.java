@@ -0,0 +1,168 @@
+package helper;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import objects.elements.GameMapObject;
+
+public class SpatialGrid<T extends GameMapObject> {
+
+    private static class Entry<T> {
+        public final T object;
+        public final int slot;
+        public int minColumn;
+        public int minRow;
+        public int maxColumn;
+        public int maxRow;
+        public int queryStamp;
+
+        public Entry(T object, int slot) {
+            this.object = object;
+            this.slot = slot;
+        }
+    }
+
+    private final BoundsStore boundsStore;
+    private final Rectangle bounds = new Rectangle();
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final Array<Array<Entry<T>>> cells;
+    private final ObjectMap<T, Entry<T>> entries;
+    private final Array<Entry<T>> dynamicEntries;
+    private int queryStamp;
+
+    public SpatialGrid(BoundsStore boundsStore, float width, float height, float cellSize) {
+        this.boundsStore = boundsStore;
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, MathUtils.ceil(width / cellSize));
+        this.rows = Math.max(1, MathUtils.ceil(height / cellSize));
+        this.cells = new Array<>(columns * rows);
+        this.cells.setSize(columns * rows);
+        this.entries = new ObjectMap<>();
+        this.dynamicEntries = new Array<>(false, 16);
+    }
+
+    public void insert(T object) {
+        if (entries.containsKey(object)) {
+            update(object);
+            return;
+        }
+        Entry<T> entry = new Entry<>(object, boundsStore.add());
+        object.setBoundsSlot(entry.slot);
+        boundsStore.set(entry.slot, object.getBounds(bounds));
+        entry.minColumn = getColumn(bounds.x);
+        entry.minRow = getRow(bounds.y);
+        entry.maxColumn = getColumn(bounds.x + bounds.width);
+        entry.maxRow = getRow(bounds.y + bounds.height);
+        addToCells(entry);
+        entries.put(object, entry);
+        if (object.isDynamic())
+            dynamicEntries.add(entry);
+    }
+
+    public void remove(T object) {
+        Entry<T> entry = entries.remove(object);
+        if (entry == null)
+            return;
+        removeFromCells(entry);
+        if (object.isDynamic())
+            dynamicEntries.removeValue(entry, true);
+        boundsStore.free(entry.slot);
+        object.setBoundsSlot(-1);
+    }
+
+    public void update(T object) {
+        Entry<T> entry = entries.get(object);
+        if (entry != null)
+            update(entry);
+    }
+
+    public void updateDynamicObjects() {
+        for (int i = 0; i < dynamicEntries.size; i++) {
+            Entry<T> entry = dynamicEntries.get(i);
+            if (entry.object.isSimulationSuspended())
+                continue;
+            Body body = entry.object.getBody();
+            if (body != null && body.isActive() && !body.isAwake())
+                continue;
+            update(entry);
+        }
+    }
+
+    public Array<T> query(Rectangle area, Array<T> result) {
+        result.clear();
+        queryStamp++;
+        int minColumn = getColumn(area.x);
+        int minRow = getRow(area.y);
+        int maxColumn = getColumn(area.x + area.width);
+        int maxRow = getRow(area.y + area.height);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                Array<Entry<T>> cell = cells.get(row * columns + column);
+                if (cell == null)
+                    continue;
+                for (int i = 0; i < cell.size; i++) {
+                    Entry<T> entry = cell.get(i);
+                    if (entry.queryStamp == queryStamp)
+                        continue;
+                    entry.queryStamp = queryStamp;
+                    if (boundsStore.overlaps(entry.slot, area))
+                        result.add(entry.object);
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() { return entries.size; }
+
+    private void update(Entry<T> entry) {
+        boundsStore.set(entry.slot, entry.object.getBounds(bounds));
+        int minColumn = getColumn(bounds.x);
+        int minRow = getRow(bounds.y);
+        int maxColumn = getColumn(bounds.x + bounds.width);
+        int maxRow = getRow(bounds.y + bounds.height);
+        if (minColumn == entry.minColumn && minRow == entry.minRow && maxColumn == entry.maxColumn && maxRow == entry.maxRow)
+            return;
+        removeFromCells(entry);
+        entry.minColumn = minColumn;
+        entry.minRow = minRow;
+        entry.maxColumn = maxColumn;
+        entry.maxRow = maxRow;
+        addToCells(entry);
+    }
+
+    private void addToCells(Entry<T> entry) {
+        for (int row = entry.minRow; row <= entry.maxRow; row++) {
+            for (int column = entry.minColumn; column <= entry.maxColumn; column++) {
+                Array<Entry<T>> cell = cells.get(row * columns + column);
+                if (cell == null) {
+                    cell = new Array<>(false, 4);
+                    cells.set(row * columns + column, cell);
+                }
+                cell.add(entry);
+            }
+        }
+    }
+
+    private void removeFromCells(Entry<T> entry) {
+        for (int row = entry.minRow; row <= entry.maxRow; row++) {
+            for (int column = entry.minColumn; column <= entry.maxColumn; column++) {
+                Array<Entry<T>> cell = cells.get(row * columns + column);
+                if (cell != null)
+                    cell.removeValue(entry, true);
+            }
+        }
+    }
+
+    private int getColumn(float x) {
+        return MathUtils.clamp((int) Math.floor(x / cellSize), 0, columns - 1);
+    }
+
+    private int getRow(float y) {
+        return MathUtils.clamp((int) Math.floor(y / cellSize), 0, rows - 1);
+    }
+}
@@ -0,0 +1,36 @@
+package helper;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+public class SpriteRegions {
+
+    public static final String ATLAS_PATH = "atlas/gameplay.atlas";
+
+    private static final TextureAtlas atlas = GameAssets.atlas(ATLAS_PATH);
+
+    public static final TextureRegion box = region("tiles_packed", 192, 32, 32, 32);
+    public static final TextureRegion ropePart = region("tiles_packed", 301, 128, 8, 32);
+    public static final TextureRegion ropeBase = region("tiles_packed", 320, 96, 31, 32);
+    public static final TextureRegion redHeart = region("hearts", 0, 0, 92, 86);
+    public static final TextureRegion grayHeart = region("hearts", 92, 0, 92, 86);
+    public static final TextureRegion[] coinFrames = frames("coin3_16x16", 0, 0, 16, 16, 14);
+
+    public static TextureRegion region(String sheet, int x, int y, int width, int height) {
+        if (atlas == null)
+            return new TextureRegion();
+        TextureRegion sheetRegion = atlas.findRegion(sheet);
+        if (sheetRegion == null)
+            throw new GdxRuntimeException("Sprite sheet " + sheet + " is missing from " + ATLAS_PATH);
+        return new TextureRegion(sheetRegion, x, y, width, height);
+    }
+
+    public static TextureRegion[] frames(String sheet, int x, int y, int width, int height, int count) {
+        TextureRegion[] frames = new TextureRegion[count];
+        for (int i = 0; i < count; i++) {
+            frames[i] = region(sheet, x + i * width, y, width, height);
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,181 @@
+package helper;
+
+import com.badlogic.gdx.math.MathUtils;
+
+public class VerletRope {
+
+    private static final int CONSTRAINT_ITERATIONS = 8;
+    private static final float DAMPING = 0.995f;
+    private static final float SLEEP_DISTANCE = 0.0005f;
+    private static final int SLEEP_STEPS = 30;
+
+    private final int particleCount;
+    private final float segmentLength;
+    private final float anchorX;
+    private final float anchorY;
+    private final float[] x;
+    private final float[] y;
+    private final float[] previousX;
+    private final float[] previousY;
+    private final float[] segmentX;
+    private final float[] segmentY;
+    private final float[] segmentAngle;
+    private int stillSteps;
+    private boolean sleeping;
+
+    public VerletRope(float anchorX, float anchorY, float segmentLength, int segments) {
+        this.particleCount = segments + 1;
+        this.segmentLength = segmentLength;
+        this.anchorX = anchorX;
+        this.anchorY = anchorY;
+        this.x = new float[particleCount];
+        this.y = new float[particleCount];
+        this.previousX = new float[particleCount];
+        this.previousY = new float[particleCount];
+        this.segmentX = new float[segments];
+        this.segmentY = new float[segments];
+        this.segmentAngle = new float[segments];
+        reset();
+    }
+
+    public void reset() {
+        for (int i = 0; i < particleCount; i++) {
+            x[i] = previousX[i] = anchorX;
+            y[i] = previousY[i] = anchorY - i * segmentLength;
+        }
+        wake();
+    }
+
+    public boolean step(float delta, float gravityX, float gravityY) {
+        if (sleeping)
+            return false;
+        float accelerationX = gravityX * delta * delta;
+        float accelerationY = gravityY * delta * delta;
+        for (int i = 1; i < particleCount; i++) {
+            float currentX = x[i];
+            float currentY = y[i];
+            x[i] += (currentX - previousX[i]) * DAMPING + accelerationX;
+            y[i] += (currentY - previousY[i]) * DAMPING + accelerationY;
+            previousX[i] = currentX;
+            previousY[i] = currentY;
+        }
+        for (int iteration = 0; iteration < CONSTRAINT_ITERATIONS; iteration++) {
+            for (int i = 1; i < particleCount; i++) {
+                solveDistance(i - 1, i);
+            }
+        }
+        float movement = 0;
+        for (int i = 1; i < particleCount; i++) {
+            solveMaxLength(i);
+            movement = Math.max(movement, Math.abs(x[i] - previousX[i]) + Math.abs(y[i] - previousY[i]));
+        }
+        stillSteps = movement < SLEEP_DISTANCE ? stillSteps + 1 : 0;
+        sleeping = stillSteps >= SLEEP_STEPS;
+        updateSegments();
+        return true;
+    }
+
+    public void applyVelocity(float velocityX, float velocityY, float delta) {
+        for (int i = 1; i < particleCount; i++) {
+            previousX[i] -= velocityX * delta;
+            previousY[i] -= velocityY * delta;
+        }
+        stillSteps = 0;
+        sleeping = false;
+    }
+
+    public void setParticle(int particle, float x, float y, float previousX, float previousY) {
+        this.x[particle] = x;
+        this.y[particle] = y;
+        this.previousX[particle] = previousX;
+        this.previousY[particle] = previousY;
+    }
+
+    public void moveSegment(int segment, float targetX, float targetY) {
+        float dx = targetX - segmentX[segment];
+        float dy = targetY - segmentY[segment];
+        if (dx == 0 && dy == 0)
+            return;
+        if (segment == 0) {
+            dx *= 2;
+            dy *= 2;
+        }
+        for (int i = Math.max(1, segment); i <= segment + 1; i++) {
+            x[i] += dx;
+            y[i] += dy;
+            previousX[i] += dx;
+            previousY[i] += dy;
+        }
+        wake();
+    }
+
+    public void wake() {
+        stillSteps = 0;
+        sleeping = false;
+        updateSegments();
+    }
+
+    public float getX(int particle) { return x[particle]; }
+
+    public float getY(int particle) { return y[particle]; }
+
+    public float getPreviousX(int particle) { return previousX[particle]; }
+
+    public float getPreviousY(int particle) { return previousY[particle]; }
+
+    public int getParticleCount() { return particleCount; }
+
+    public float getSegmentX(int segment) { return segmentX[segment]; }
+
+    public float getSegmentY(int segment) { return segmentY[segment]; }
+
+    public float getSegmentAngle(int segment) { return segmentAngle[segment]; }
+
+    public float getSegmentVelocityX(int segment, float delta) {
+        return (x[segment] + x[segment + 1] - previousX[segment] - previousX[segment + 1]) / 2.0f / delta;
+    }
+
+    public float getSegmentVelocityY(int segment, float delta) {
+        return (y[segment] + y[segment + 1] - previousY[segment] - previousY[segment + 1]) / 2.0f / delta;
+    }
+
+    public int getSegmentCount() { return particleCount - 1; }
+
+    private void updateSegments() {
+        for (int i = 0; i < segmentX.length; i++) {
+            segmentX[i] = (x[i] + x[i + 1]) / 2.0f;
+            segmentY[i] = (y[i] + y[i + 1]) / 2.0f;
+            segmentAngle[i] = MathUtils.atan2(x[i + 1] - x[i], y[i] - y[i + 1]);
+        }
+    }
+
+    private void solveDistance(int first, int second) {
+        float dx = x[second] - x[first];
+        float dy = y[second] - y[first];
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        if (distance == 0)
+            return;
+        float correction = (distance - segmentLength) / distance;
+        if (first == 0) {
+            x[second] -= dx * correction;
+            y[second] -= dy * correction;
+        } else {
+            x[first] += dx * correction * 0.5f;
+            y[first] += dy * correction * 0.5f;
+            x[second] -= dx * correction * 0.5f;
+            y[second] -= dy * correction * 0.5f;
+        }
+    }
+
+    private void solveMaxLength(int particle) {
+        float dx = x[particle] - x[0];
+        float dy = y[particle] - y[0];
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        float maxLength = particle * segmentLength;
+        if (distance <= maxLength)
+            return;
+        float scale = maxLength / distance;
+        x[particle] = x[0] + dx * scale;
+        y[particle] = y[0] + dy * scale;
+    }
+}
@@ -4,220 +4,94 @@ import com.adventurer.game.AdventurerGame;
 import com.adventurer.game.GameResultsScreen;
 import com.adventurer.game.GameScreen;
 import com.adventurer.game.MenuScreen;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.maps.MapObjects;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
-import com.badlogic.gdx.math.Intersector;
-import com.badlogic.gdx.math.Polygon;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
+import helper.ActivationManager;
 import helper.BodyHelper;
+import helper.CachedTileMapRenderer;
+import helper.BoundsStore;
+import helper.LevelSnapshot;
 import helper.MapHelper;
+import helper.ObjectsContactListener;
+import helper.MapObjectRegistry;
+import helper.RenderSnapshot;
+import helper.RenderStateBuffer;
+import helper.SpriteRegions;
+import objects.components.*;
 import objects.elements.*;
 import objects.player.Adventurer;
+import objects.systems.*;
 
-import java.awt.*;
-
+import static helper.Constants.ACTIVATION_MARGIN;
+import static helper.Constants.ACTIVATION_RADIUS;
+import static helper.Constants.PHYSICS_TIME_STEP;
 import static helper.Constants.PIXELS_PER_METER;
+import static helper.Constants.SPATIAL_QUERY_MARGIN;
 
-public abstract class GameLevel {
+public abstract class GameLevel implements ObjectsContactListener.ContactEventHandler {
 
     protected String mapPathName;
     protected MapHelper mapHelper;
     protected TiledMap map;
     protected GameScreen gameScreen;
-    protected Array<GameMapObject> mapObjects;
-    protected OrthogonalTiledMapRenderer orthogonalTiledMapRenderer;
+    protected CachedTileMapRenderer mapRenderer;
     protected Adventurer adventurer;
     protected int coinsCollected;
     protected int totalCoins;
+    protected final BoundsStore boundsStore = new BoundsStore(64);
+    protected final ActivationManager activationManager = new ActivationManager(boundsStore, ACTIVATION_RADIUS, ACTIVATION_MARGIN);
+    protected MapObjectRegistry<Ground> grounds;
+    protected MapObjectRegistry<Ladder> ladders;
+    protected MapObjectRegistry<Bomb> bombs;
+    protected MapObjectRegistry<Finish> finishes;
+    protected MapObjectRegistry<Coin> coins;
+    protected MapObjectRegistry<Box> boxes;
+    protected MapObjectRegistry<Rope> ropes;
+    protected float interpolationAlpha = 1.0f;
+    protected final RenderStateBuffer renderStateBuffer = new RenderStateBuffer();
+    protected RenderSnapshot renderSnapshot;
+    protected final LevelSnapshot initialState = new LevelSnapshot();
+    protected LevelHistory history;
+    protected final PooledEngine engine = new PooledEngine();
+    protected boolean laddersExitAtBottom = true;
+    private RenderSystem renderSystem;
+    private boolean finished;
 
-    public void render(SpriteBatch batch, float stateTime) {
-        boolean adventurerOnGround = false;
-
-        if (adventurer.getState() != Adventurer.AdventurerState.DEAD) {
-            for (GameMapObject mapObject : mapObjects) {
-                if (mapObject instanceof Ladder && adventurer.getState() != Adventurer.AdventurerState.HANG) {
-                    Polygon adventurerPolygon = new Polygon(BodyHelper.getBodyVertices(adventurer.getBody()));
-                    Polygon ladderPolygon = new Polygon(BodyHelper.getBodyVertices(mapObject.getBody()));
-                    int velocityY = 0;
-                    float speed = 4f;
-                    if (Intersector.overlapConvexPolygons(adventurerPolygon, ladderPolygon)) {
-                        if (Gdx.input.isKeyPressed(Input.Keys.UP) || Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
-                            if (adventurer.getState() != Adventurer.AdventurerState.CLIMB && adventurer.getState() != Adventurer.AdventurerState.CROUCHING) {
-                                adventurer.setState(Adventurer.AdventurerState.CLIMB);
-                                adventurer.setCanJumpState(false);
-                                adventurer.setBodyInert(false);
-                            }
-                            velocityY = (Gdx.input.isKeyPressed(Input.Keys.UP)) ? 1 : -1;
-                        }
-                    } else {
-                        if (adventurer.getState() == Adventurer.AdventurerState.CLIMB) {
-                            adventurer.setState(Adventurer.AdventurerState.STAY);
-                        }
-                    }
-                    if (Gdx.input.isKeyJustPressed(Input.Keys.DOWN)) {
-                        if (ladderPolygon.contains(adventurer.getBody().getPosition().x * PIXELS_PER_METER, adventurer.getBody().getPosition().y * PIXELS_PER_METER - adventurer.getHeight() / 2.0f - 2)) {
-                            if (adventurer.getState() != Adventurer.AdventurerState.CLIMB && adventurer.getState() != Adventurer.AdventurerState.CROUCHING) {
-                                adventurer.setState(Adventurer.AdventurerState.CLIMB);
-                                adventurer.getBody().setTransform(new Vector2(mapObject.getPosition().x + mapObject.getDimension().width / 2.0f / PIXELS_PER_METER, adventurer.getY() / PIXELS_PER_METER - 2 / PIXELS_PER_METER), adventurer.getBody().getAngle());
-                                adventurer.setCanJumpState(false);
-                            }
-                        }
-                    }
-                    if (adventurer.getState() == Adventurer.AdventurerState.CLIMB) {
-                        if (adventurer.getBody().getPosition().y - adventurer.getHeight() / 2.0f / PIXELS_PER_METER <= mapObject.getPosition().y + 4 / PIXELS_PER_METER && !(this instanceof Level2) && !(this instanceof Level5)) {
-                            adventurer.setState(Adventurer.AdventurerState.STAY);
-                        }
-                        adventurer.setIsRunning(true);
-                        adventurer.getBody().setTransform(new Vector2(mapObject.getPosition().x + mapObject.getDimension().width / 2.0f / PIXELS_PER_METER, adventurer.getY() / PIXELS_PER_METER), adventurer.getBody().getAngle());
-                        adventurer.getBody().setLinearVelocity(adventurer.getBody().getLinearVelocity().x, velocityY * speed);
-                    }
-                }
-            }
-
-            if (adventurer.getState() == Adventurer.AdventurerState.CLIMB) {
-                if (Gdx.input.isKeyPressed(Input.Keys.DOWN) || Gdx.input.isKeyPressed(Input.Keys.UP)) {
-                    if (!adventurer.isOnLadder()) {
-                        Ladder.sound.loop(1.0f);
-                        adventurer.setOnLadder(true);
-                    }
-                } else {
-                    if (adventurer.isOnLadder()) {
-                        Ladder.sound.stop();
-                        adventurer.setOnLadder(false);
-                    }
-                }
-            } else {
-                if (adventurer.isOnLadder()) {
-                    Ladder.sound.stop();
-                    adventurer.setOnLadder(false);
-                }
-            }
+    private final int adventurerBoundsSlot = boundsStore.add();
+    private final Rectangle adventurerBounds = new Rectangle();
+    private final Array<Rope> nearbyRopes = new Array<>();
+    private final Rectangle ropeQueryArea = new Rectangle();
 
-            if (adventurer.objectInHands != null) {
-                for (GameMapObject mapObject : mapObjects) {
-                    if (mapObject instanceof Ground) {
-                        if (adventurer.objectInHands instanceof Body) {
-                            Polygon adventurerPolygon = new Polygon(BodyHelper.getBodyVertices(adventurer.getBody()));
-                            Polygon mapObjectPolygon = new Polygon(BodyHelper.getBodyVertices(mapObject.getBody()));
-                            Body objectInHandsBody = (Body) adventurer.objectInHands;
-                            if (Intersector.overlapConvexPolygons(adventurerPolygon, mapObjectPolygon)) {
-                                int adventurerDirectionCoefficient = 0;
-                                if (adventurer.getBody().getPosition().y - adventurer.getHeight() / 2.0f / PIXELS_PER_METER > mapObject.getPosition().y + mapObject.getDimension().height / PIXELS_PER_METER || adventurer.getBody().getPosition().y + adventurer.getHeight() / 2.0f / PIXELS_PER_METER < mapObject.getPosition().y) {
-                                    if (adventurer.getBody().getPosition().y > mapObject.getPosition().y) {
-                                        objectInHandsBody.setTransform(new Vector2(objectInHandsBody.getPosition().x, Math.max(objectInHandsBody.getPosition().y, mapObject.getPosition().y + mapObject.getDimension().height / PIXELS_PER_METER + adventurer.getHeight() / PIXELS_PER_METER + ((Rope) objectInHandsBody.getUserData()).getPartSize().height / 2.0f / PIXELS_PER_METER)), objectInHandsBody.getAngle());
-                                    } else {
-                                        objectInHandsBody.setTransform(new Vector2(objectInHandsBody.getPosition().x, Math.min(objectInHandsBody.getPosition().y, mapObject.getPosition().y - adventurer.getHeight() / PIXELS_PER_METER + ((Rope) objectInHandsBody.getUserData()).getPartSize().height / 2.0f / PIXELS_PER_METER)), objectInHandsBody.getAngle());
-                                    }
-                                } else {
-                                    if (adventurer.getBody().getPosition().x > mapObject.getPosition().x + mapObject.getDimension().width / 2.0f / PIXELS_PER_METER) {
-                                        adventurerDirectionCoefficient = adventurer.getDirection() == Adventurer.AdventurerDirection.LEFT ? 1 : 0;
-                                        objectInHandsBody.setTransform(new Vector2(Math.max(mapObject.getPosition().x + mapObject.getDimension().width / PIXELS_PER_METER + adventurerDirectionCoefficient * adventurer.getWidth() / PIXELS_PER_METER, objectInHandsBody.getPosition().x), objectInHandsBody.getPosition().y), objectInHandsBody.getAngle());
-                                    } else {
-                                        adventurerDirectionCoefficient = adventurer.getDirection() == Adventurer.AdventurerDirection.LEFT ? 0 : 1;
-                                        objectInHandsBody.setTransform(new Vector2(Math.min(mapObject.getPosition().x - adventurerDirectionCoefficient * adventurer.getWidth() / PIXELS_PER_METER, objectInHandsBody.getPosition().x), objectInHandsBody.getPosition().y), objectInHandsBody.getAngle());
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-
-            for (GameMapObject mapObject : mapObjects) {
-                if (mapObject.getBody() != null && !(mapObject instanceof Ladder) && adventurer.getState() != Adventurer.AdventurerState.HANG && adventurer.getState() != Adventurer.AdventurerState.CLIMB && adventurer.getState() != Adventurer.AdventurerState.CROUCHING) {
-                    Polygon objectPolygon = new Polygon(BodyHelper.getBodyVertices(mapObject.getBody()));
-                    Vector2 position = mapObject.getBody().getType() == BodyDef.BodyType.DynamicBody ? mapObject.getBody().getPosition() : mapObject.getPosition();
-                    objectPolygon.setOrigin(position.x * PIXELS_PER_METER, position.y * PIXELS_PER_METER);
-                    objectPolygon.setRotation(mapObject.getBody().getAngle() / (float)Math.PI * 180);
-                    Vector2 pointA = new Vector2(adventurer.getBody().getPosition().x * PIXELS_PER_METER - adventurer.getWidth() / 2.0f, adventurer.getBody().getPosition().y * PIXELS_PER_METER - adventurer.getHeight() / 2.0f - 1);
-                    Vector2 pointB = new Vector2(adventurer.getBody().getPosition().x * PIXELS_PER_METER + adventurer.getWidth() / 2.0f, adventurer.getBody().getPosition().y * PIXELS_PER_METER - adventurer.getHeight() / 2.0f - 1);
-                    if (Intersector.overlapConvexPolygons(new Polygon(new float[] { pointA.x, pointA.y, pointB.x, pointB.y, pointB.x, pointB.y, pointA.x, pointA.y }), objectPolygon)) {
-                        adventurer.setState(Adventurer.AdventurerState.STAY);
-                        if (adventurer.getBodyState() != Adventurer.BodyState.LANDED) {
-                            adventurer.setBodyInert(false);
-                            adventurer.setBodyState(Adventurer.BodyState.LANDED);
-                            adventurer.setCanJumpState(true);
-                            adventurer.setIsRunning(false);
-                            Adventurer.fallSound.play(1.0f);
-                        }
-                        adventurerOnGround = true;
-                    }
-                }
+    public void update() {
+        boolean adventurerOnGround = false;
 
-                if (mapObject instanceof Coin) {
-                    if (mapObject.getBody() != null) {
-                        Polygon coinPolygon = new Polygon(BodyHelper.getBodyVertices(mapObject.getBody()));
-                        Polygon adventurerPolygon = new Polygon(BodyHelper.getBodyVertices(adventurer.getBody()));
-                        if (Intersector.overlapConvexPolygons(coinPolygon, adventurerPolygon)) {
-                            mapObjects.removeValue(mapObject, false);
-                            Coin.sound.play(1.0f);
-                            this.getWorld().destroyBody(mapObject.getBody());
-                            coinsCollected++;
-                        }
-                    }
-                }
+        adventurer.inputProcessor.latchKeys();
+        if (adventurer.inputProcessor.isKeyPressed(Input.Keys.R) && rewind())
+            return;
+        ((ObjectsContactListener) gameScreen.getContactListener()).dispatchEvents(this);
 
-                if (mapObject instanceof Ground) {
-                    if (adventurer.getState() != Adventurer.AdventurerState.CROUCHING) {
-                        if (adventurer.objectInHands != null && adventurer.objectInHands instanceof Box && !adventurer.objectInHands.equals(mapObject)) {
-                            Box box = (Box) adventurer.objectInHands;
-                            Polygon boxPolygon = new Polygon(BodyHelper.getBodyVertices(box.getBody()));
-                            Polygon groundPolygon = new Polygon(BodyHelper.getBodyVertices(mapObject.getBody()));
-                            if (Intersector.overlapConvexPolygons(boxPolygon, groundPolygon)) {
-                                Vector2 position = mapObject.getBody().getType() == BodyDef.BodyType.DynamicBody ? new Vector2(mapObject.getBody().getPosition().x - mapObject.getDimension().width / 2.0f / PIXELS_PER_METER, mapObject.getBody().getPosition().y - mapObject.getDimension().height / 2.0f / PIXELS_PER_METER) : mapObject.getPosition();
-                                if (box.getBody().getPosition().x - box.getDimension().width / 2.0f / PIXELS_PER_METER < position.x && adventurer.getBody().getPosition().x < position.x) {
-                                    adventurer.getBody().setTransform(new Vector2(Math.min(position.x - box.getDimension().width / PIXELS_PER_METER - adventurer.getWidth() / 2.0f / PIXELS_PER_METER, position.x), adventurer.getBody().getPosition().y), 0);
-                                } else {
-                                    if (adventurer.getBody().getPosition().x > position.x)
-                                        adventurer.getBody().setTransform(new Vector2(Math.max(position.x + mapObject.getDimension().width / PIXELS_PER_METER + box.getDimension().width / PIXELS_PER_METER + adventurer.getWidth() / 2.0f / PIXELS_PER_METER, position.x), adventurer.getBody().getPosition().y), 0);
-                                }
-                            }
-                        }
-                    }
-                }
-
-                if (mapObject instanceof Finish) {
-                    Polygon finishPolygon = new Polygon(BodyHelper.getBodyVertices(mapObject.getBody()));
-                    Polygon adventurerPolygon = new Polygon(BodyHelper.getBodyVertices(adventurer.getBody()));
-                    if (Intersector.overlapConvexPolygons(adventurerPolygon, finishPolygon)) {
-                        Adventurer.runSound.stop();
-                        Adventurer.jumpSound.stop();
-                        Adventurer.crouchingSound.stop();
-                        Adventurer.fallSound.stop();
-                        this.gameScreen.game.setScreen(new GameResultsScreen(this.gameScreen.game, this, GameResultsScreen.GameResults.VICTORY));
-                        this.gameScreen.dispose();
-                    }
-                }
+        if (adventurer.getState() != Adventurer.AdventurerState.DEAD) {
+            engine.update(PHYSICS_TIME_STEP);
 
-                if (mapObject instanceof Bomb) {
-                    Polygon adventurerPolygon = new Polygon(BodyHelper.getBodyVertices(adventurer.getBody()));
-                    Polygon bombPolygon = new Polygon(BodyHelper.getBodyVertices(mapObject.getBody()));
-                    if (Intersector.overlapConvexPolygons(adventurerPolygon, bombPolygon)) {
-                        Bomb bomb = (Bomb) mapObject;
-                        int bodyDirectionCoefficient = (adventurer.getBody().getPosition().x <= bomb.getPosition().x + bomb.getDimension().width / 2.0f / PIXELS_PER_METER) ? -1 : 1;
-                        adventurer.getBody().setLinearVelocity(new Vector2(0, 0));
-                        adventurer.getBody().applyLinearImpulse(new Vector2(bodyDirectionCoefficient * adventurer.getBody().getMass() * 5, adventurer.getBody().getMass() * 15), adventurer.getBody().getPosition(), true);
-                        adventurer.setBodyInert(true);
-                        adventurer.setHealthPoints(adventurer.getHealthPoints() - 1);
-                        Adventurer.damageSound.play(1.0f);
-                        if (adventurer.getState() == Adventurer.AdventurerState.CROUCHING) {
-                            adventurer.setState(Adventurer.AdventurerState.STAY);
-                            adventurer.setSize(new Dimension(adventurer.getWidth(), adventurer.getHeight() * 2));
-                            adventurer.getBody().setTransform(new Vector2(adventurer.getBody().getPosition().x, adventurer.getBody().getPosition().y + adventurer.getHeight() / 4.0f / PIXELS_PER_METER), 0);
-                            BodyHelper.resizeBody(adventurer.getBody(), new Dimension(adventurer.getWidth(), adventurer.getHeight()));
-                            adventurer.setSpeed(adventurer.getSpeed() / 0.5f);
-                        }
-                    }
+            if (adventurer.isOnGround() && adventurer.getState() != Adventurer.AdventurerState.HANG && adventurer.getState() != Adventurer.AdventurerState.CLIMB && adventurer.getState() != Adventurer.AdventurerState.CROUCHING) {
+                adventurer.setState(Adventurer.AdventurerState.STAY);
+                if (adventurer.getBodyState() != Adventurer.BodyState.LANDED) {
+                    adventurer.setBodyInert(false);
+                    adventurer.setBodyState(Adventurer.BodyState.LANDED);
+                    adventurer.setCanJumpState(true);
+                    adventurer.setIsRunning(false);
+                    Adventurer.fallSound.play(1.0f);
                 }
+                adventurerOnGround = true;
             }
 
             if (!adventurerOnGround) {
@@ -230,37 +104,304 @@ public abstract class GameLevel {
             }
         }
 
-        for (GameMapObject object : mapObjects) {
-            object.render(batch, stateTime);
+        adventurer.update();
+        if (adventurer.getState() != Adventurer.AdventurerState.DEAD)
+            history.capture();
+    }
+
+    private boolean rewind() {
+        if (finished || adventurer.getState() == Adventurer.AdventurerState.DEAD || history.getFrameCount() < 2)
+            return false;
+        activationManager.resumeAll(boxes.getObjects());
+        activationManager.resumeAll(ropes.getObjects());
+        if (adventurer.isOnLadder())
+            Ladder.sound.stop();
+        history.rewind();
+        ((ObjectsContactListener) gameScreen.getContactListener()).clearEvents();
+        boxes.updateObjects();
+        ropes.updateObjects();
+        savePreviousStates();
+        return true;
+    }
+
+    public void renderBackground(SpriteBatch batch) { }
+
+    public void render(SpriteBatch batch, float stateTime) {
+        renderSystem.render(batch, renderSnapshot, gameScreen.getViewBounds(), interpolationAlpha, stateTime);
+        adventurer.render(batch, renderSnapshot.adventurerState, stateTime);
+    }
+
+    public void publishRenderState() {
+        RenderSnapshot snapshot = renderStateBuffer.beginWrite();
+        renderSystem.writeRenderState(snapshot);
+        adventurer.writeRenderState(snapshot.adventurerTransform);
+        snapshot.adventurerState = adventurer.getState();
+        snapshot.healthPoints = adventurer.getHealthPoints();
+        snapshot.coinsCollected = coinsCollected;
+        snapshot.bodyCount = getWorld().getBodyCount();
+        snapshot.contactCount = getWorld().getContactCount();
+        snapshot.jointCount = getWorld().getJointCount();
+        snapshot.suspendedObjects = activationManager.getSuspendedObjects();
+        snapshot.publishTime = System.nanoTime();
+        renderStateBuffer.publish();
+    }
+
+    public RenderSnapshot getRenderSnapshot() { return renderSnapshot; }
+
+    public RenderSnapshot acquireRenderState() {
+        renderSnapshot = renderStateBuffer.acquire();
+        return renderSnapshot;
+    }
+
+    public void captureInitialState() {
+        initialState.capture(getWorld());
+        history = new LevelHistory(this);
+    }
+
+    public void initializeEntities() {
+        for (Ground ground : grounds.getObjects()) {
+            createStaticEntity(ground);
+        }
+        for (Ladder ladder : ladders.getObjects()) {
+            Entity entity = createStaticEntity(ladder);
+            ClimbableComponent climbable = engine.createComponent(ClimbableComponent.class);
+            climbable.exitAtBottom = laddersExitAtBottom;
+            entity.add(climbable);
+        }
+        for (Bomb bomb : bombs.getObjects()) {
+            Entity entity = createStaticEntity(bomb);
+            entity.add(engine.createComponent(SensorComponent.class));
+            entity.add(engine.createComponent(HazardComponent.class));
+        }
+        for (Finish finish : finishes.getObjects()) {
+            Entity entity = createStaticEntity(finish);
+            entity.add(engine.createComponent(SensorComponent.class));
+            entity.add(engine.createComponent(GoalComponent.class));
+        }
+        for (Coin coin : coins.getObjects()) {
+            Entity entity = createStaticEntity(coin);
+            PickupComponent pickup = engine.createComponent(PickupComponent.class);
+            pickup.sound = Coin.sound;
+            entity.add(engine.createComponent(SensorComponent.class));
+            entity.add(pickup);
+            entity.add(createSprite(2));
+        }
+        for (Box box : boxes.getObjects()) {
+            createBoxEntity(box);
+        }
+        for (Rope rope : ropes.getObjects()) {
+            Entity entity = createEntity(rope);
+            entity.add(engine.createComponent(CarryableComponent.class));
+            entity.add(createSprite(0));
         }
 
-        adventurer.update();
-        adventurer.render(batch, stateTime);
+        ProximitySystem proximitySystem = new ProximitySystem(this, 4);
+        renderSystem = new RenderSystem(7);
+        engine.addSystem(new PickupSystem(this, 0));
+        engine.addSystem(new GoalSystem(this, 1));
+        engine.addSystem(new HazardSystem(this, 2));
+        engine.addSystem(new ContactSystem(3));
+        engine.addSystem(proximitySystem);
+        engine.addSystem(new LadderSystem(this, proximitySystem, 5));
+        engine.addSystem(new CarrySystem(this, proximitySystem, 6));
+        engine.addSystem(renderSystem);
+    }
+
+    public Box addBox(Box box) {
+        boxes.add(box);
+        createBoxEntity(box);
+        return box;
+    }
+
+    private void createBoxEntity(Box box) {
+        Entity entity = createEntity(box);
+        entity.add(engine.createComponent(CarryableComponent.class));
+        entity.add(createSprite(1));
+    }
+
+    private Entity createEntity(GameMapObject object) {
+        Entity entity = engine.createEntity();
+        MapObjectComponent mapObject = engine.createComponent(MapObjectComponent.class);
+        mapObject.object = object;
+        entity.add(mapObject);
+        if (object.getBody() != null) {
+            BodyComponent body = engine.createComponent(BodyComponent.class);
+            body.body = object.getBody();
+            entity.add(body);
+        }
+        object.setEntity(entity);
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    private Entity createStaticEntity(GameMapObject object) {
+        Entity entity = createEntity(object);
+        TransformComponent transform = engine.createComponent(TransformComponent.class);
+        transform.x = object.getPosition().x;
+        transform.y = object.getPosition().y;
+        transform.width = object.getDimension().width / PIXELS_PER_METER;
+        transform.height = object.getDimension().height / PIXELS_PER_METER;
+        entity.add(transform);
+        return entity;
+    }
+
+    private SpriteComponent createSprite(int layer) {
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.layer = layer;
+        return sprite;
+    }
+
+    public void restart() {
+        activationManager.resumeAll(boxes.getObjects());
+        activationManager.resumeAll(ropes.getObjects());
+        Array<Coin> coinObjects = coins.getObjects();
+        for (int i = 0; i < coinObjects.size; i++) {
+            setCollected(coinObjects.get(i).getEntity(), false);
+        }
+        Array<Rope> ropeObjects = ropes.getObjects();
+        for (int i = 0; i < ropeObjects.size; i++) {
+            ropeObjects.get(i).reset();
+        }
+        adventurer.reset();
+        initialState.restore();
+        history.clear();
+        ((ObjectsContactListener) gameScreen.getContactListener()).clearEvents();
+        boxes.updateObjects();
+        ropes.updateObjects();
+        coinsCollected = 0;
+        finished = false;
+        savePreviousStates();
+        publishRenderState();
+    }
+
+    public void stepRopes(float delta) {
+        if (gameScreen.getRopeMode() != Rope.SimulationMode.VERLET)
+            return;
+        Array<Rope> objects = ropes.getObjects();
+        for (int i = 0; i < objects.size; i++) {
+            objects.get(i).step(delta);
+        }
+        adventurer.getBounds(ropeQueryArea);
+        ropeQueryArea.set(ropeQueryArea.x - SPATIAL_QUERY_MARGIN, ropeQueryArea.y - SPATIAL_QUERY_MARGIN, ropeQueryArea.width + 2 * SPATIAL_QUERY_MARGIN, ropeQueryArea.height + 2 * SPATIAL_QUERY_MARGIN);
+        ropes.query(ropeQueryArea, nearbyRopes);
+        for (int i = 0; i < nearbyRopes.size; i++) {
+            nearbyRopes.get(i).syncBodies();
+        }
+    }
+
+    public void savePreviousStates() {
+        renderSystem.savePreviousStates();
+        adventurer.savePreviousState();
+    }
+
+    public void setInterpolationAlpha(float interpolationAlpha) {
+        this.interpolationAlpha = interpolationAlpha;
+        adventurer.readRenderState(renderSnapshot.adventurerTransform.items, 0, interpolationAlpha);
+    }
+
+    @Override
+    public void handleContactEvent(ObjectsContactListener.ContactEvent event) {
+        if (event.type != ObjectsContactListener.ContactEventType.BEGIN || adventurer.getState() == Adventurer.AdventurerState.DEAD)
+            return;
+        Object object = event.getOtherObject(adventurer);
+        if (!(object instanceof GameMapObject))
+            return;
+        Entity entity = ((GameMapObject) object).getEntity();
+        if (entity != null && Mappers.sensor.has(entity) && !Mappers.contact.has(entity))
+            entity.add(engine.createComponent(ContactComponent.class));
+    }
+
+    public void setCollected(Entity entity, boolean collected) {
+        if (Mappers.collected.has(entity) == collected)
+            return;
+        if (collected)
+            entity.add(engine.createComponent(CollectedComponent.class));
+        else
+            entity.remove(CollectedComponent.class);
+        Mappers.body.get(entity).body.setActive(!collected);
+        coinsCollected += collected ? Mappers.pickup.get(entity).value : -Mappers.pickup.get(entity).value;
+    }
+
+    public boolean isCollected(Entity entity) { return Mappers.collected.has(entity); }
+
+    public void finishLevel() {
+        if (finished)
+            return;
+        finished = true;
+        Adventurer.runSound.stop();
+        Adventurer.jumpSound.stop();
+        Adventurer.crouchingSound.stop();
+        Adventurer.fallSound.stop();
+        if (gameScreen.isHeadless())
+            return;
+        Gdx.app.postRunnable(new Runnable() {
+            @Override
+            public void run() {
+                gameScreen.game.setScreen(new GameResultsScreen(gameScreen.game, GameLevel.this, GameResultsScreen.GameResults.VICTORY));
+            }
+        });
+    }
+
+    public int updateAdventurerBounds() {
+        boundsStore.set(adventurerBoundsSlot, BodyHelper.getBodyBounds(adventurer.getBody(), adventurerBounds));
+        return adventurerBoundsSlot;
     }
 
     public void renderAdventurerHealth(SpriteBatch batch, float stateTime) {
-        for (int i = 0; i < adventurer.getHealthPoints(); i++) {
-            batch.draw(Adventurer.redHeart, gameScreen.getCamera().position.x - Gdx.graphics.getWidth() / 2.0f + 10 + 56 * i, gameScreen.getCamera().position.y + Gdx.graphics.getHeight() / 2.0f - 53, 46, 43);
+        for (int i = 0; i < renderSnapshot.healthPoints; i++) {
+            batch.draw(SpriteRegions.redHeart, gameScreen.getCamera().position.x - Gdx.graphics.getWidth() / 2.0f + 10 + 56 * i, gameScreen.getCamera().position.y + Gdx.graphics.getHeight() / 2.0f - 53, 46, 43);
         }
-        for (int i = 0; i < adventurer.getTotalHealthPoints() - adventurer.getHealthPoints(); i++) {
-            batch.draw(Adventurer.grayHeart, gameScreen.getCamera().position.x - Gdx.graphics.getWidth() / 2.0f + 10 + 56 * (getAdventurer().getHealthPoints() + i), gameScreen.getCamera().position.y + Gdx.graphics.getHeight() / 2.0f - 53, 46, 43);
+        for (int i = 0; i < adventurer.getTotalHealthPoints() - renderSnapshot.healthPoints; i++) {
+            batch.draw(SpriteRegions.grayHeart, gameScreen.getCamera().position.x - Gdx.graphics.getWidth() / 2.0f + 10 + 56 * (renderSnapshot.healthPoints + i), gameScreen.getCamera().position.y + Gdx.graphics.getHeight() / 2.0f - 53, 46, 43);
         }
-        for (int i = 0; i < coinsCollected; i++) {
-            batch.draw(Adventurer.coinTexture, gameScreen.getCamera().position.x - Gdx.graphics.getWidth() / 2.0f + 50 + 56 * getAdventurer().getTotalHealthPoints() + 43 * i, gameScreen.getCamera().position.y + Gdx.graphics.getHeight() / 2.0f - 53, 43, 43);
+        for (int i = 0; i < renderSnapshot.coinsCollected; i++) {
+            batch.draw(SpriteRegions.coinFrames[0], gameScreen.getCamera().position.x - Gdx.graphics.getWidth() / 2.0f + 50 + 56 * getAdventurer().getTotalHealthPoints() + 43 * i, gameScreen.getCamera().position.y + Gdx.graphics.getHeight() / 2.0f - 53, 43, 43);
         }
     }
 
     public Adventurer getAdventurer() { return adventurer; }
 
-    public OrthogonalTiledMapRenderer getOrthogonalTiledMapRenderer() { return orthogonalTiledMapRenderer; }
+    public CachedTileMapRenderer getMapRenderer() { return mapRenderer; }
 
     public TiledMap getMap() { return map; }
 
     public World getWorld() { return gameScreen.getWorld(); }
 
-    public void appendMapObjects(GameMapObject object) { mapObjects.add(object); }
+    public void initializeRegistries(float width, float height) {
+        grounds = new MapObjectRegistry<>(boundsStore, width, height);
+        ladders = new MapObjectRegistry<>(boundsStore, width, height);
+        bombs = new MapObjectRegistry<>(boundsStore, width, height);
+        finishes = new MapObjectRegistry<>(boundsStore, width, height);
+        coins = new MapObjectRegistry<>(boundsStore, width, height);
+        boxes = new MapObjectRegistry<>(boundsStore, width, height);
+        ropes = new MapObjectRegistry<>(boundsStore, width, height);
+    }
+
+    public MapObjectRegistry<Ground> getGrounds() { return grounds; }
+
+    public MapObjectRegistry<Ladder> getLadders() { return ladders; }
 
-    public Array<GameMapObject> getMapObjects() { return mapObjects; }
+    public MapObjectRegistry<Bomb> getBombs() { return bombs; }
+
+    public MapObjectRegistry<Finish> getFinishes() { return finishes; }
+
+    public MapObjectRegistry<Coin> getCoins() { return coins; }
+
+    public MapObjectRegistry<Box> getBoxes() { return boxes; }
+
+    public MapObjectRegistry<Rope> getRopes() { return ropes; }
+
+    public BoundsStore getBoundsStore() { return boundsStore; }
+
+    public int getRenderedObjects() { return renderSystem.getRenderedObjects(); }
+
+    public int getCulledObjects() { return renderSystem.getCulledObjects(); }
+
+    public ActivationManager getActivationManager() { return activationManager; }
+
+    public int getSuspendedObjects() { return activationManager.getSuspendedObjects(); }
+
+    public LevelHistory getHistory() { return history; }
 
     public AdventurerGame getGame() { return gameScreen.game; }
 
@@ -268,5 +409,7 @@ public abstract class GameLevel {
 
     public int getCoinsCollected() { return coinsCollected; }
 
+    public boolean isFinished() { return finished; }
+
     public int getTotalCoins() { return totalCoins; }
 }
@@ -0,0 +1,185 @@
+package levels;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.utils.Array;
+import helper.RewindBuffer;
+import helper.VerletRope;
+import objects.elements.Box;
+import objects.elements.Coin;
+import objects.elements.GameMapObject;
+import objects.elements.Rope;
+import objects.player.Adventurer;
+
+import static helper.Constants.REWIND_BUFFER_BYTES;
+import static helper.Constants.REWIND_FRAMES;
+
+public class LevelHistory {
+
+    private static final float POSITION_SCALE = 1024.0f;
+    private static final float VELOCITY_SCALE = 1024.0f;
+    private static final float ANGLE_SCALE = 4096.0f;
+    private static final float PARTICLE_SCALE = 8192.0f;
+    private static final int BODY_CHANNELS = 7;
+    private static final int PARTICLE_CHANNELS = 4;
+    private static final int ADVENTURER_CHANNELS = 8;
+
+    private static final int ACTIVE = 1;
+    private static final int AWAKE = 2;
+    private static final int CAN_JUMP = 1;
+    private static final int BODY_INERT = 2;
+    private static final int CROUCHED = 4;
+    private static final int HELD_NOTHING = 0;
+    private static final int HELD_BOX = 1;
+    private static final int HELD_ROPE = 2;
+
+    private final GameLevel level;
+    private final Array<Body> bodies = new Array<>();
+    private final Array<VerletRope> verletRopes = new Array<>();
+    private final Array<Coin> coins;
+    private final RewindBuffer buffer;
+    private final int[] values;
+
+    public LevelHistory(GameLevel level) {
+        this.level = level;
+        this.coins = level.coins.getObjects();
+        Array<Body> worldBodies = new Array<>();
+        level.getWorld().getBodies(worldBodies);
+        for (int i = 0; i < worldBodies.size; i++) {
+            if (worldBodies.get(i).getType() == BodyDef.BodyType.DynamicBody)
+                bodies.add(worldBodies.get(i));
+        }
+        Array<Rope> ropes = level.ropes.getObjects();
+        int particles = 0;
+        for (int i = 0; i < ropes.size; i++) {
+            VerletRope verletRope = ropes.get(i).getVerletRope();
+            if (verletRope != null) {
+                verletRopes.add(verletRope);
+                particles += verletRope.getParticleCount();
+            }
+        }
+        int[] groupSizes = new int[bodies.size + particles + 1];
+        for (int i = 0; i < groupSizes.length - 1; i++) {
+            groupSizes[i] = i < bodies.size ? BODY_CHANNELS : PARTICLE_CHANNELS;
+        }
+        groupSizes[groupSizes.length - 1] = ADVENTURER_CHANNELS + coins.size;
+        this.buffer = new RewindBuffer(groupSizes, REWIND_FRAMES, REWIND_BUFFER_BYTES);
+        this.values = new int[buffer.getChannelCount()];
+    }
+
+    public void capture() {
+        int channel = 0;
+        for (int i = 0; i < bodies.size; i++) {
+            Body body = bodies.get(i);
+            Vector2 position = body.getPosition();
+            values[channel++] = MathUtils.round(position.x * POSITION_SCALE);
+            values[channel++] = MathUtils.round(position.y * POSITION_SCALE);
+            values[channel++] = MathUtils.round(body.getAngle() * ANGLE_SCALE);
+            Vector2 velocity = body.getLinearVelocity();
+            values[channel++] = MathUtils.round(velocity.x * VELOCITY_SCALE);
+            values[channel++] = MathUtils.round(velocity.y * VELOCITY_SCALE);
+            values[channel++] = MathUtils.round(body.getAngularVelocity() * VELOCITY_SCALE);
+            values[channel++] = (body.isActive() || isSuspended(body) ? ACTIVE : 0) | (body.isAwake() ? AWAKE : 0);
+        }
+        for (int i = 0; i < verletRopes.size; i++) {
+            VerletRope verletRope = verletRopes.get(i);
+            for (int particle = 0; particle < verletRope.getParticleCount(); particle++) {
+                int x = MathUtils.round(verletRope.getX(particle) * PARTICLE_SCALE);
+                int y = MathUtils.round(verletRope.getY(particle) * PARTICLE_SCALE);
+                values[channel++] = x;
+                values[channel++] = y;
+                values[channel++] = x - MathUtils.round(verletRope.getPreviousX(particle) * PARTICLE_SCALE);
+                values[channel++] = y - MathUtils.round(verletRope.getPreviousY(particle) * PARTICLE_SCALE);
+            }
+        }
+        Adventurer adventurer = level.adventurer;
+        values[channel++] = adventurer.getState().ordinal();
+        values[channel++] = adventurer.getBodyState().ordinal();
+        values[channel++] = adventurer.getDirection().ordinal();
+        values[channel++] = adventurer.getHealthPoints();
+        values[channel++] = (adventurer.getCanJumpState() ? CAN_JUMP : 0) | (adventurer.isBodyInert() ? BODY_INERT : 0) | (adventurer.isCrouched() ? CROUCHED : 0);
+        Object objectInHands = adventurer.objectInHands;
+        if (objectInHands instanceof Box) {
+            values[channel++] = HELD_BOX;
+            values[channel++] = level.boxes.getObjects().indexOf((Box) objectInHands, true);
+            values[channel++] = 0;
+        } else if (objectInHands instanceof Body && ((Body) objectInHands).getUserData() instanceof Rope) {
+            Rope rope = (Rope) ((Body) objectInHands).getUserData();
+            values[channel++] = HELD_ROPE;
+            values[channel++] = level.ropes.getObjects().indexOf(rope, true);
+            values[channel++] = rope.getSegmentIndex((Body) objectInHands);
+        } else {
+            values[channel++] = HELD_NOTHING;
+            values[channel++] = 0;
+            values[channel++] = 0;
+        }
+        for (int i = 0; i < coins.size; i++) {
+            values[channel++] = level.isCollected(coins.get(i).getEntity()) ? 1 : 0;
+        }
+        buffer.capture(values);
+    }
+
+    public boolean rewind() {
+        if (!buffer.rewind(values))
+            return false;
+        int channel = bodies.size * BODY_CHANNELS;
+        for (int i = 0; i < verletRopes.size; i++) {
+            VerletRope verletRope = verletRopes.get(i);
+            for (int particle = 0; particle < verletRope.getParticleCount(); particle++) {
+                int x = values[channel++];
+                int y = values[channel++];
+                int dx = values[channel++];
+                int dy = values[channel++];
+                verletRope.setParticle(particle, x / PARTICLE_SCALE, y / PARTICLE_SCALE, (x - dx) / PARTICLE_SCALE, (y - dy) / PARTICLE_SCALE);
+            }
+            verletRope.wake();
+        }
+        Array<Rope> ropes = level.ropes.getObjects();
+        for (int i = 0; i < ropes.size; i++) {
+            ropes.get(i).invalidateBodies();
+        }
+        Adventurer adventurer = level.adventurer;
+        Adventurer.AdventurerState state = Adventurer.AdventurerState.values()[values[channel++]];
+        Adventurer.BodyState bodyState = Adventurer.BodyState.values()[values[channel++]];
+        Adventurer.AdventurerDirection direction = Adventurer.AdventurerDirection.values()[values[channel++]];
+        int healthPoints = values[channel++];
+        int flags = values[channel++];
+        adventurer.restoreState(state, bodyState, direction, healthPoints, (flags & CAN_JUMP) != 0, (flags & BODY_INERT) != 0, (flags & CROUCHED) != 0);
+        int held = values[channel++];
+        int heldIndex = values[channel++];
+        int heldSegment = values[channel++];
+        if (held == HELD_BOX)
+            adventurer.objectInHands = level.boxes.getObjects().get(heldIndex);
+        else if (held == HELD_ROPE)
+            adventurer.objectInHands = ropes.get(heldIndex).getSegment(heldSegment);
+        else
+            adventurer.objectInHands = null;
+        for (int i = 0; i < coins.size; i++) {
+            level.setCollected(coins.get(i).getEntity(), values[channel++] != 0);
+        }
+        channel = 0;
+        for (int i = 0; i < bodies.size; i++) {
+            Body body = bodies.get(i);
+            body.setTransform(values[channel] / POSITION_SCALE, values[channel + 1] / POSITION_SCALE, values[channel + 2] / ANGLE_SCALE);
+            body.setLinearVelocity(values[channel + 3] / VELOCITY_SCALE, values[channel + 4] / VELOCITY_SCALE);
+            body.setAngularVelocity(values[channel + 5] / VELOCITY_SCALE);
+            body.setActive((values[channel + 6] & ACTIVE) != 0);
+            body.setAwake((values[channel + 6] & AWAKE) != 0);
+            channel += BODY_CHANNELS;
+        }
+        return true;
+    }
+
+    public void clear() { buffer.clear(); }
+
+    public int getFrameCount() { return buffer.getFrameCount(); }
+
+    public int getUsedBytes() { return buffer.getUsedBytes(); }
+
+    private boolean isSuspended(Body body) {
+        Object userData = body.getUserData();
+        return userData instanceof GameMapObject && ((GameMapObject) userData).isSimulationSuspended();
+    }
+}
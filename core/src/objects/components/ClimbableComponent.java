@@ -0,0 +1,14 @@
+package objects.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class ClimbableComponent implements Component, Pool.Poolable {
+
+    public boolean exitAtBottom = true;
+
+    @Override
+    public void reset() {
+        exitAtBottom = true;
+    }
+}
@@ -0,0 +1,18 @@
+package objects.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class HazardComponent implements Component, Pool.Poolable {
+
+    public int damage = 1;
+    public float knockbackX = 5;
+    public float knockbackY = 15;
+
+    @Override
+    public void reset() {
+        damage = 1;
+        knockbackX = 5;
+        knockbackY = 15;
+    }
+}
@@ -0,0 +1,15 @@
+package objects.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import objects.elements.GameMapObject;
+
+public class MapObjectComponent implements Component, Pool.Poolable {
+
+    public GameMapObject object;
+
+    @Override
+    public void reset() {
+        object = null;
+    }
+}
@@ -0,0 +1,18 @@
+package objects.components;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+public class Mappers {
+
+    public static final ComponentMapper<MapObjectComponent> mapObject = ComponentMapper.getFor(MapObjectComponent.class);
+    public static final ComponentMapper<TransformComponent> transform = ComponentMapper.getFor(TransformComponent.class);
+    public static final ComponentMapper<BodyComponent> body = ComponentMapper.getFor(BodyComponent.class);
+    public static final ComponentMapper<SpriteComponent> sprite = ComponentMapper.getFor(SpriteComponent.class);
+    public static final ComponentMapper<SensorComponent> sensor = ComponentMapper.getFor(SensorComponent.class);
+    public static final ComponentMapper<ContactComponent> contact = ComponentMapper.getFor(ContactComponent.class);
+    public static final ComponentMapper<PickupComponent> pickup = ComponentMapper.getFor(PickupComponent.class);
+    public static final ComponentMapper<CollectedComponent> collected = ComponentMapper.getFor(CollectedComponent.class);
+    public static final ComponentMapper<HazardComponent> hazard = ComponentMapper.getFor(HazardComponent.class);
+    public static final ComponentMapper<ClimbableComponent> climbable = ComponentMapper.getFor(ClimbableComponent.class);
+    public static final ComponentMapper<CarryableComponent> carryable = ComponentMapper.getFor(CarryableComponent.class);
+}
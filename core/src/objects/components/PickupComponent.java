@@ -0,0 +1,17 @@
+package objects.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.Pool;
+
+public class PickupComponent implements Component, Pool.Poolable {
+
+    public int value = 1;
+    public Sound sound;
+
+    @Override
+    public void reset() {
+        value = 1;
+        sound = null;
+    }
+}
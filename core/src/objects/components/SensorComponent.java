@@ -0,0 +1,6 @@
+package objects.components;
+
+import com.badlogic.ashley.core.Component;
+
+public class SensorComponent implements Component {
+}
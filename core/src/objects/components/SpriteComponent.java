@@ -0,0 +1,14 @@
+package objects.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class SpriteComponent implements Component, Pool.Poolable {
+
+    public int layer;
+
+    @Override
+    public void reset() {
+        layer = 0;
+    }
+}
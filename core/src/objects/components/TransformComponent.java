@@ -0,0 +1,24 @@
+package objects.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class TransformComponent implements Component, Pool.Poolable {
+
+    public float x;
+    public float y;
+    public float width;
+    public float height;
+
+    public float getCenterX() { return x + width / 2.0f; }
+
+    public float getCenterY() { return y + height / 2.0f; }
+
+    @Override
+    public void reset() {
+        x = 0;
+        y = 0;
+        width = 0;
+        height = 0;
+    }
+}
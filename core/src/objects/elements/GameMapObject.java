@@ -1,17 +1,30 @@
 package objects.elements;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.FloatArray;
+import helper.BodyHelper;
+import helper.InterpolatedTransform;
 
 import java.awt.*;
 
+import static helper.Constants.PIXELS_PER_METER;
+
 public abstract class GameMapObject {
 
     protected Vector2 position;
     protected Dimension dimension;
     protected Body body;
+    protected int boundsSlot = -1;
+    protected final InterpolatedTransform transform = new InterpolatedTransform();
+    protected final Rectangle renderBounds = new Rectangle();
+    private boolean renderBoundsValid;
+    protected boolean simulationSuspended;
+    protected Entity entity;
 
     public abstract void render(SpriteBatch batch, float stateTime);
 
@@ -24,4 +37,54 @@ public abstract class GameMapObject {
     public void setPosition(Vector2 position) { this.position = position; }
 
     public Dimension getDimension() { return dimension; }
+
+    public boolean isDynamic() { return false; }
+
+    public void savePreviousState() {
+        if (body != null && !simulationSuspended)
+            transform.save(body);
+    }
+
+    public void writeRenderState(FloatArray out) {
+        if (simulationSuspended)
+            transform.writeSaved(out);
+        else
+            transform.write(body, out);
+    }
+
+    public int readRenderState(float[] data, int offset, float alpha) { return transform.read(data, offset, alpha); }
+
+    public Entity getEntity() { return entity; }
+
+    public void setEntity(Entity entity) { this.entity = entity; }
+
+    public boolean isSimulationSuspended() { return simulationSuspended; }
+
+    public void setSimulationSuspended(boolean simulationSuspended) {
+        if (body == null)
+            return;
+        if (simulationSuspended)
+            savePreviousState();
+        this.simulationSuspended = simulationSuspended;
+        body.setActive(!simulationSuspended);
+    }
+
+    public Rectangle getRenderBounds() {
+        if (isDynamic() || !renderBoundsValid) {
+            updateRenderBounds();
+            renderBoundsValid = true;
+        }
+        return renderBounds;
+    }
+
+    protected void updateRenderBounds() {
+        float extent = (dimension.width + dimension.height) / 2.0f;
+        renderBounds.set(transform.getX() * PIXELS_PER_METER - extent, transform.getY() * PIXELS_PER_METER - extent, extent * 2, extent * 2);
+    }
+
+    public Rectangle getBounds(Rectangle bounds) { return BodyHelper.getBodyBounds(body, bounds); }
+
+    public void setBoundsSlot(int boundsSlot) { this.boundsSlot = boundsSlot; }
+
+    public int getBoundsSlot() { return boundsSlot; }
 }
@@ -1,10 +1,13 @@
 package objects.elements;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 
 import java.awt.*;
 
+import static helper.Constants.PIXELS_PER_METER;
+
 public class Ground extends GameMapObject {
 
     public Ground(Vector2 position, Dimension dimension) {
@@ -16,6 +19,9 @@ public class Ground extends GameMapObject {
 
     public Vector2 getPosition() { return position; }
 
+    @Override
+    public Rectangle getBounds(Rectangle bounds) { return bounds.set(position.x * PIXELS_PER_METER, position.y * PIXELS_PER_METER - 1, dimension.width + 1, dimension.height + 1); }
+
     @Override
     public void render(SpriteBatch batch, float stateTime) { }
 }
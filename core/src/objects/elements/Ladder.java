@@ -1,6 +1,5 @@
 package objects.elements;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Intersector;
@@ -8,12 +7,13 @@ import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import helper.BodyHelper;
+import helper.GameAssets;
 
 import java.awt.*;
 
 public class Ladder extends GameMapObject {
 
-    public static final Sound sound = Gdx.audio.newSound(Gdx.files.internal("Sounds/ladder.mp3"));
+    public static final Sound sound = GameAssets.sound("Sounds/ladder.mp3");
 
     public Ladder(Vector2 position, Dimension dimension) {
         this.position = position;
@@ -1,90 +1,280 @@
 package objects.elements;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.Joint;
-import com.badlogic.gdx.physics.box2d.JointEdge;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import helper.BodyHelper;
+import helper.GameAssets;
+import helper.InterpolatedTransform;
+import helper.SpriteRegions;
+import helper.VerletRope;
 
 import java.awt.*;
-import java.util.Iterator;
 
+import static helper.Constants.PHYSICS_TIME_STEP;
 import static helper.Constants.PIXELS_PER_METER;
 
 public class Rope extends GameMapObject {
 
-    public static final Sound sound = Gdx.audio.newSound(Gdx.files.internal("Sounds/rope.mp3"));
-    private static final TextureRegion texture = new TextureRegion(new Texture("tiles_packed.png"), 301, 128, 8, 32);
-    private static final TextureRegion baseTexture = new TextureRegion(new Texture("tiles_packed.png"), 320, 96, 31, 32);
+    public enum SimulationMode {
+        BOX2D,
+        VERLET
+    }
+
+    public static final Sound sound = GameAssets.sound("Sounds/rope.mp3");
+
+    private static final float DENSITY = 1.0f;
+    private static final int VERTEX_SIZE = 5;
+    private static final int QUAD_SIZE = 4 * VERTEX_SIZE;
 
     private final Dimension baseSize;
     private final Dimension partSize;
     private final Body base;
     private final World world;
     private final int numberOfParts;
+    private final SimulationMode mode;
+    private final VerletRope verletRope;
+    private final Body[] segments;
+    private final ObjectIntMap<Body> segmentIndices;
+    private final InterpolatedTransform[] segmentTransforms;
+    private final float[] segmentVertices;
+    private boolean bodiesOutdated;
 
     public Rope(World world, Vector2 position, Dimension baseSize, Dimension partSize, int numberOfParts) {
+        this(world, position, baseSize, partSize, numberOfParts, SimulationMode.BOX2D);
+    }
+
+    public Rope(World world, Vector2 position, Dimension baseSize, Dimension partSize, int numberOfParts, SimulationMode mode) {
         this.numberOfParts = numberOfParts;
+        this.mode = mode;
         this.world = world;
         this.baseSize = baseSize;
         this.partSize = partSize;
         this.base = BodyHelper.createBody(position, baseSize, true, true, world, this);
         this.base.getFixtureList().get(0).setSensor(true);
         this.position = position;
-        BodyHelper.buildRopeJoints(world, partSize, numberOfParts, base);
+        if (mode == SimulationMode.VERLET) {
+            this.segments = BodyHelper.buildKinematicRopeSegments(world, partSize, numberOfParts, base);
+            this.verletRope = new VerletRope(base.getPosition().x, base.getPosition().y - partSize.height / 2.0f / PIXELS_PER_METER, partSize.height / PIXELS_PER_METER, numberOfParts);
+        } else {
+            this.segments = BodyHelper.buildRopeJoints(world, partSize, numberOfParts, base);
+            this.verletRope = null;
+        }
+        this.segmentIndices = new ObjectIntMap<>(segments.length);
+        this.segmentTransforms = new InterpolatedTransform[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            segmentIndices.put(segments[i], i);
+            segmentTransforms[i] = new InterpolatedTransform();
+        }
+        this.segmentVertices = new float[segments.length * QUAD_SIZE];
+        initializeTextureCoordinates(SpriteRegions.ropePart);
     }
 
     @Override
     public void render(SpriteBatch batch, float stateTime) {
-        batch.draw(baseTexture, position.x - baseSize.width / 2.0f, position.y - baseSize.height, baseSize.width, 32);
-        for (JointEdge edge : base.getJointList()) {
-            Joint joint = edge.joint;
-            TextureRegion region = new TextureRegion(texture);
-            batch.draw(region, joint.getBodyB().getPosition().x * PIXELS_PER_METER - partSize.width / 2.0f, joint.getBodyB().getPosition().y * PIXELS_PER_METER - partSize.height / 2.0f, partSize.width / 2.0f, partSize.height / 2.0f, partSize.width, partSize.height, 1, 1, joint.getBodyB().getAngle() / (float) Math.PI * 180);
+        batch.draw(SpriteRegions.ropeBase, position.x - baseSize.width / 2.0f, position.y - baseSize.height, baseSize.width, 32);
+        float color = batch.getPackedColor();
+        for (int i = 0; i < segmentTransforms.length; i++) {
+            InterpolatedTransform segmentTransform = segmentTransforms[i];
+            updateSegmentQuad(i, segmentTransform.getX() * PIXELS_PER_METER, segmentTransform.getY() * PIXELS_PER_METER, segmentTransform.getAngle(), color);
         }
+        batch.draw(SpriteRegions.ropePart.getTexture(), segmentVertices, 0, segmentVertices.length);
     }
 
-    public Body getPreviousPart(Body body) {
-        Joint prevJoint = null;
-        for (JointEdge edge : base.getJointList()) {
-            Joint joint = edge.joint;
-            if (joint.getBodyB().equals(body)) {
-                return (prevJoint == null) ? body : prevJoint.getBodyB();
-            }
-            prevJoint = joint;
+    @Override
+    public void savePreviousState() {
+        if (simulationSuspended)
+            return;
+        for (int i = 0; i < segments.length; i++) {
+            if (verletRope != null)
+                segmentTransforms[i].save(verletRope.getSegmentX(i), verletRope.getSegmentY(i), verletRope.getSegmentAngle(i));
+            else
+                segmentTransforms[i].save(segments[i]);
+        }
+    }
+
+    @Override
+    public void writeRenderState(FloatArray out) {
+        for (int i = 0; i < segments.length; i++) {
+            if (simulationSuspended)
+                segmentTransforms[i].writeSaved(out);
+            else if (verletRope != null)
+                segmentTransforms[i].write(verletRope.getSegmentX(i), verletRope.getSegmentY(i), verletRope.getSegmentAngle(i), out);
+            else
+                segmentTransforms[i].write(segments[i], out);
+        }
+    }
+
+    @Override
+    public int readRenderState(float[] data, int offset, float alpha) {
+        for (InterpolatedTransform segmentTransform : segmentTransforms) {
+            offset = segmentTransform.read(data, offset, alpha);
         }
-        return body;
+        return offset;
+    }
+
+    public Body getPreviousPart(Body body) {
+        int index = segmentIndices.get(body, -1);
+        return index < 0 ? body : segments[Math.max(0, index - 1)];
     }
 
     public Body getNextPart(Body body) {
-        if (base.getJointList().first().joint.getBodyB().equals(body))
-            return base.getJointList().get(2) == null ? body : base.getJointList().get(2).joint.getBodyB();
-        for (Iterator<JointEdge> it = base.getJointList().iterator(); it.hasNext(); ) {
-            Joint joint = it.next().joint;
-            if (joint.getBodyB().equals(body)) {
-                if (it.hasNext())
-                    return it.next().joint.getBodyB();
-                else
-                    return body;
-            }
+        int index = segmentIndices.get(body, -1);
+        return index < 0 ? body : segments[Math.min(segments.length - 1, index + 1)];
+    }
+
+    public void step(float delta) {
+        if (verletRope == null || simulationSuspended)
+            return;
+        Vector2 gravity = world.getGravity();
+        if (verletRope.step(delta, gravity.x, gravity.y))
+            bodiesOutdated = true;
+    }
+
+    public void syncBodies() {
+        if (!bodiesOutdated)
+            return;
+        for (int i = 0; i < segments.length; i++) {
+            segments[i].setTransform(verletRope.getSegmentX(i), verletRope.getSegmentY(i), verletRope.getSegmentAngle(i));
+        }
+        bodiesOutdated = false;
+    }
+
+    public void setPartPosition(Body body, float x, float y) {
+        int index = segmentIndices.get(body, -1);
+        if (verletRope == null || index < 0) {
+            body.setTransform(x, y, body.getAngle());
+            return;
+        }
+        verletRope.moveSegment(index, x, y);
+        bodiesOutdated = true;
+        syncBodies();
+    }
+
+    public void reset() {
+        if (verletRope == null)
+            return;
+        verletRope.reset();
+        bodiesOutdated = true;
+    }
+
+    public void invalidateBodies() { bodiesOutdated = verletRope != null; }
+
+    public VerletRope getVerletRope() { return verletRope; }
+
+    @Override
+    public void setSimulationSuspended(boolean simulationSuspended) {
+        if (simulationSuspended)
+            savePreviousState();
+        this.simulationSuspended = simulationSuspended;
+        for (Body segment : segments) {
+            segment.setActive(!simulationSuspended);
         }
-        return body;
+    }
+
+    public Vector2 getPartVelocity(Body body, Vector2 velocity) {
+        int index = segmentIndices.get(body, -1);
+        if (verletRope == null || index < 0)
+            return velocity.set(body.getLinearVelocity());
+        return velocity.set(verletRope.getSegmentVelocityX(index, PHYSICS_TIME_STEP), verletRope.getSegmentVelocityY(index, PHYSICS_TIME_STEP));
     }
 
     public void swing(Vector2 impulseVector) {
-        for (JointEdge edge : base.getJointList()) {
-            Body body = edge.joint.getBodyB();
-            body.applyLinearImpulse(impulseVector, body.getPosition(), true);
+        if (verletRope != null) {
+            float segmentMass = partSize.width * partSize.height / (PIXELS_PER_METER * PIXELS_PER_METER) * DENSITY;
+            verletRope.applyVelocity(impulseVector.x / segmentMass, impulseVector.y / segmentMass, PHYSICS_TIME_STEP);
+            return;
+        }
+        for (Body segment : segments) {
+            segment.applyLinearImpulse(impulseVector, segment.getPosition(), true);
+        }
+    }
+
+    @Override
+    public boolean isDynamic() { return true; }
+
+    @Override
+    protected void updateRenderBounds() {
+        float minX = position.x - baseSize.width / 2.0f, maxX = position.x + baseSize.width / 2.0f;
+        float minY = position.y - baseSize.height, maxY = position.y + baseSize.height / 2.0f;
+        float extent = Math.max(partSize.width, partSize.height) / 2.0f;
+        for (InterpolatedTransform segmentTransform : segmentTransforms) {
+            float x = segmentTransform.getX() * PIXELS_PER_METER;
+            float y = segmentTransform.getY() * PIXELS_PER_METER;
+            minX = Math.min(minX, x - extent);
+            maxX = Math.max(maxX, x + extent);
+            minY = Math.min(minY, y - extent);
+            maxY = Math.max(maxY, y + extent);
+        }
+        renderBounds.set(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    @Override
+    public Rectangle getBounds(Rectangle bounds) {
+        float minX = position.x - baseSize.width / 2.0f, maxX = position.x + baseSize.width / 2.0f;
+        float minY = position.y - baseSize.height, maxY = position.y + baseSize.height / 2.0f;
+        for (int i = 0; i < segments.length; i++) {
+            float x = (verletRope != null ? verletRope.getSegmentX(i) : segments[i].getPosition().x) * PIXELS_PER_METER;
+            float y = (verletRope != null ? verletRope.getSegmentY(i) : segments[i].getPosition().y) * PIXELS_PER_METER;
+            minX = Math.min(minX, x - partSize.height / 2.0f);
+            maxX = Math.max(maxX, x + partSize.height / 2.0f);
+            minY = Math.min(minY, y - partSize.height / 2.0f);
+            maxY = Math.max(maxY, y + partSize.height / 2.0f);
         }
+        return bounds.set(minX, minY, maxX - minX, maxY - minY);
     }
 
     public Body getBase() { return base; }
 
+    public SimulationMode getMode() { return mode; }
+
+    public Body getSegment(int index) { return segments[index]; }
+
+    public int getSegmentCount() { return segments.length; }
+
+    public int getSegmentIndex(Body body) { return segmentIndices.get(body, -1); }
+
     public Dimension getPartSize() { return partSize; }
+
+    private void initializeTextureCoordinates(TextureRegion region) {
+        for (int i = 0; i < segments.length; i++) {
+            int offset = i * QUAD_SIZE;
+            segmentVertices[offset + 3] = region.getU();
+            segmentVertices[offset + 4] = region.getV2();
+            segmentVertices[offset + VERTEX_SIZE + 3] = region.getU();
+            segmentVertices[offset + VERTEX_SIZE + 4] = region.getV();
+            segmentVertices[offset + 2 * VERTEX_SIZE + 3] = region.getU2();
+            segmentVertices[offset + 2 * VERTEX_SIZE + 4] = region.getV();
+            segmentVertices[offset + 3 * VERTEX_SIZE + 3] = region.getU2();
+            segmentVertices[offset + 3 * VERTEX_SIZE + 4] = region.getV2();
+        }
+    }
+
+    private void updateSegmentQuad(int index, float x, float y, float angle, float color) {
+        float halfWidth = partSize.width / 2.0f;
+        float halfHeight = partSize.height / 2.0f;
+        float cos = MathUtils.cos(angle);
+        float sin = MathUtils.sin(angle);
+        float widthX = cos * halfWidth, widthY = sin * halfWidth;
+        float heightX = -sin * halfHeight, heightY = cos * halfHeight;
+
+        int offset = index * QUAD_SIZE;
+        setVertexPosition(offset, x - widthX - heightX, y - widthY - heightY, color);
+        setVertexPosition(offset + VERTEX_SIZE, x - widthX + heightX, y - widthY + heightY, color);
+        setVertexPosition(offset + 2 * VERTEX_SIZE, x + widthX + heightX, y + widthY + heightY, color);
+        setVertexPosition(offset + 3 * VERTEX_SIZE, x + widthX - heightX, y + widthY - heightY, color);
+    }
+
+    private void setVertexPosition(int offset, float x, float y, float color) {
+        segmentVertices[offset] = x;
+        segmentVertices[offset + 1] = y;
+        segmentVertices[offset + 2] = color;
+    }
 }
@@ -3,22 +3,22 @@ package objects.player;
 import com.adventurer.game.GameResultsScreen;
 import com.adventurer.game.GameScreen;
 import com.badlogic.gdx.Game;
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.math.Intersector;
-import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Timer;
 import helper.BodyHelper;
 import helper.CustomInputProcessor;
+import helper.GameAssets;
 import helper.ObjectsContactListener;
+import helper.SpriteRegions;
 import levels.GameLevel;
 import levels.Level1;
 import objects.elements.*;
@@ -28,6 +28,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static helper.Constants.PIXELS_PER_METER;
+import static helper.Constants.SPATIAL_QUERY_MARGIN;
 
 public class Adventurer extends GameEntity {
 
@@ -65,16 +66,12 @@ public class Adventurer extends GameEntity {
         }
     }
 
-    public static final Sound damageSound = Gdx.audio.newSound(Gdx.files.internal("Sounds/ouch.mp3"));
-    public static final Sound runSound = Gdx.audio.newSound(Gdx.files.internal("Sounds/run2.mp3"));
-    public static final Sound fallSound = Gdx.audio.newSound(Gdx.files.internal("Sounds/fall.mp3"));
-    public static final Sound jumpSound = Gdx.audio.newSound(Gdx.files.internal("Sounds/jump.mp3"));
-    public static final Sound crouchingSound = Gdx.audio.newSound(Gdx.files.internal("Sounds/crouching.mp3"));
+    public static final Sound damageSound = GameAssets.sound("Sounds/ouch.mp3");
+    public static final Sound runSound = GameAssets.sound("Sounds/run2.mp3");
+    public static final Sound fallSound = GameAssets.sound("Sounds/fall.mp3");
+    public static final Sound jumpSound = GameAssets.sound("Sounds/jump.mp3");
+    public static final Sound crouchingSound = GameAssets.sound("Sounds/crouching.mp3");
 
-    private static final Texture texture = new Texture("adventurer-assets.png");
-    public static final TextureRegion redHeart = new TextureRegion(new Texture("hearts.png"), 0, 0, 92, 86);
-    public static final TextureRegion grayHeart = new TextureRegion(new Texture("hearts.png"), 92, 0, 92, 86);
-    public static final TextureRegion coinTexture = new TextureRegion(new Texture("coin3_16x16.png"), 0, 0, 16, 16);
 
     private Map<AdventurerState, AdventurerAnimation> adventurerAnimations;
     private AdventurerState adventurerState;
@@ -92,22 +89,31 @@ public class Adventurer extends GameEntity {
     private boolean onLadder = false;
     private int totalHealthPoints;
     private int healthPoints;
+    private final Dimension initialSize;
+    private final float initialSpeed;
+
+    private final Array<Ground> nearbyGrounds = new Array<>();
+    private final Rectangle queryArea = new Rectangle();
+    private final Rectangle bounds = new Rectangle();
 
     public CustomInputProcessor inputProcessor;
     public ObjectsContactListener contactListener;
     public Object objectInHands;
+    private final Vector2 releaseVelocity = new Vector2();
     public Object lastContact;
 
     public Adventurer(Vector2 position, Dimension size, World world, GameLevel level, int healthPoints) {
         super(position, size, world);
         this.speed = 10f;
+        this.initialSize = new Dimension(size);
+        this.initialSpeed = speed;
         this.level = level;
         this.totalHealthPoints = healthPoints;
         this.healthPoints = healthPoints;
         this.bodyState = BodyState.LANDED;
         this.adventurerDirection = AdventurerDirection.RIGHT;
         this.adventurerState = AdventurerState.STAY;
-        this.inputProcessor = (CustomInputProcessor) Gdx.input.getInputProcessor();
+        this.inputProcessor = level.getScreen().getInputProcessor();
         setAdventurerAnimations();
     }
 
@@ -129,7 +135,7 @@ public class Adventurer extends GameEntity {
                         Body ropeItem = (Body) objectInHands;
                         int directionCoefficient = adventurerDirection == AdventurerDirection.LEFT ? 1 : adventurerDirection == AdventurerDirection.RIGHT ? -1 : 0;
                         body.setTransform(new Vector2(ropeItem.getPosition().x - directionCoefficient * size.width / 2.0f / PIXELS_PER_METER, ropeItem.getPosition().y - ((Rope) ropeItem.getUserData()).getPartSize().height / 2.0f / PIXELS_PER_METER - size.height / 2.0f / PIXELS_PER_METER), 0);
-                        ropeItem.setTransform(new Vector2(body.getPosition().x + directionCoefficient * size.width / 2.0f / PIXELS_PER_METER, body.getPosition().y + ((Rope) ropeItem.getUserData()).getPartSize().height / 2.0f / PIXELS_PER_METER + size.height / 2.0f / PIXELS_PER_METER), ropeItem.getAngle());
+                        ((Rope) ropeItem.getUserData()).setPartPosition(ropeItem, body.getPosition().x + directionCoefficient * size.width / 2.0f / PIXELS_PER_METER, body.getPosition().y + ((Rope) ropeItem.getUserData()).getPartSize().height / 2.0f / PIXELS_PER_METER + size.height / 2.0f / PIXELS_PER_METER);
                     }
                 }
                 if (objectInHands instanceof Box) {
@@ -156,7 +162,11 @@ public class Adventurer extends GameEntity {
     }
 
     public void render(SpriteBatch batch, float stateTime) {
-        batch.draw(getCurrentAnimationFrame(stateTime), getX() - 50, getY() - getHeight() / 2.0f, 50, 37, 100, 74, 1, 1, body.getTransform().getRotation() / (float)Math.PI * 180);
+        render(batch, adventurerState, stateTime);
+    }
+
+    public void render(SpriteBatch batch, AdventurerState adventurerState, float stateTime) {
+        batch.draw(getAnimationFrame(adventurerState, stateTime), getRenderX() - 50, getRenderY() - getHeight() / 2.0f, 50, 37, 100, 74, 1, 1, transform.getAngle() / (float)Math.PI * 180);
     }
 
     private void disableAdventurer() {
@@ -171,64 +181,93 @@ public class Adventurer extends GameEntity {
             body.setActive(false);
         }
 
+        if (level.getScreen().isHeadless())
+            return;
+
         Timer.schedule(new Timer.Task() {
             @Override
             public void run() {
                 level.getGame().setScreen(new GameResultsScreen(level.getGame(), level, GameResultsScreen.GameResults.DEFEAT));
-                level.getScreen().dispose();
             }
         }, 1);
     }
 
+    public void reset() {
+        restoreState(AdventurerState.STAY, BodyState.LANDED, AdventurerDirection.RIGHT, totalHealthPoints, true, false, false);
+        objectInHands = null;
+    }
+
+    public void restoreState(AdventurerState state, BodyState bodyState, AdventurerDirection direction, int healthPoints, boolean canJump, boolean bodyInert, boolean crouched) {
+        if (crouched != isCrouched()) {
+            size = new Dimension(initialSize.width, crouched ? initialSize.height / 2 : initialSize.height);
+            BodyHelper.resizeBody(body, new Dimension(size.width, size.height));
+        }
+        speed = crouched ? initialSpeed * 0.5f : initialSpeed;
+        this.healthPoints = healthPoints;
+        this.bodyState = bodyState;
+        this.canJump = canJump;
+        this.bodyInert = bodyInert;
+        velocityX = 0;
+        velocityY = 0;
+        lastContact = null;
+        isRunning = false;
+        isCrouching = false;
+        onLadder = false;
+        runSound.stop();
+        crouchingSound.stop();
+        setDirection(direction);
+        setState(state);
+    }
+
     private void setAdventurerAnimations() {
         adventurerAnimations = new HashMap<AdventurerState, AdventurerAnimation>() {{
             put(AdventurerState.STAY, new AdventurerAnimation(0.1f, true, new TextureRegion[] {
-                    new TextureRegion(texture, 0, 0, 50, 37),
-                    new TextureRegion(texture, 50, 0, 50, 37),
-                    new TextureRegion(texture, 100, 0, 50, 37),
-                    new TextureRegion(texture, 150, 0, 50, 37)
+                    SpriteRegions.region("adventurer-assets", 0, 0, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 50, 0, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 100, 0, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 150, 0, 50, 37)
             }));
             put(AdventurerState.RUN, new AdventurerAnimation(0.1f, true, new TextureRegion[] {
-                    new TextureRegion(texture, 50, 37, 50, 37),
-                    new TextureRegion(texture, 100, 37, 50, 37),
-                    new TextureRegion(texture, 150, 37, 50, 37),
-                    new TextureRegion(texture, 200, 37, 50, 37),
-                    new TextureRegion(texture, 250, 37, 50, 37),
-                    new TextureRegion(texture, 300, 37, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 50, 37, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 100, 37, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 150, 37, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 200, 37, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 250, 37, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 300, 37, 50, 37),
             }));
             put(AdventurerState.JUMP, new AdventurerAnimation(0.1f, true, new TextureRegion[] {
-                    new TextureRegion(texture, 0, 74, 50, 37),
-                    new TextureRegion(texture, 50, 74, 50, 37),
-                    new TextureRegion(texture, 100, 74, 50, 37),
-                    new TextureRegion(texture, 150, 74, 50, 37),
-                    new TextureRegion(texture, 200, 74, 50, 37),
-                    new TextureRegion(texture, 250, 74, 50, 37),
-                    new TextureRegion(texture, 300, 74, 50, 37),
-                    new TextureRegion(texture, 0, 111, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 0, 74, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 50, 74, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 100, 74, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 150, 74, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 200, 74, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 250, 74, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 300, 74, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 0, 111, 50, 37),
             }));
             put(AdventurerState.CROUCHING, new AdventurerAnimation(0.1f, true, new TextureRegion[] {
-                    new TextureRegion(texture, 200, 0, 50, 37),
-                    new TextureRegion(texture, 250, 0, 50, 37),
-                    new TextureRegion(texture, 300, 0, 50, 37),
-                    new TextureRegion(texture, 0, 37, 50, 37)
+                    SpriteRegions.region("adventurer-assets", 200, 0, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 250, 0, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 300, 0, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 0, 37, 50, 37)
             }));
             put(AdventurerState.HANG, new AdventurerAnimation(0.1f, true, new TextureRegion[] {
-                    new TextureRegion(texture, 50, 148, 50, 37),
-                    new TextureRegion(texture, 100, 148, 50, 37),
-                    new TextureRegion(texture, 150, 148, 50, 37),
-                    new TextureRegion(texture, 200, 148, 50, 37)
+                    SpriteRegions.region("adventurer-assets", 50, 148, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 100, 148, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 150, 148, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 200, 148, 50, 37)
             }));
             put(AdventurerState.DEAD, new AdventurerAnimation(0.1f, true, new TextureRegion[] {
-                    new TextureRegion(texture, 150, 111, 50, 37),
-                    new TextureRegion(texture, 200, 111, 50, 37),
-                    new TextureRegion(texture, 250, 111, 50, 37),
-                    new TextureRegion(texture, 300, 111, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 150, 111, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 200, 111, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 250, 111, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 300, 111, 50, 37),
             }));
             put(AdventurerState.CLIMB, new AdventurerAnimation(0.1f, true, new TextureRegion[] {
-                    new TextureRegion(texture, 200, 407, 50, 37),
-                    new TextureRegion(texture, 250, 407, 50, 37),
-                    new TextureRegion(texture, 300, 407, 50, 37),
-                    new TextureRegion(texture, 0, 444, 50, 37)
+                    SpriteRegions.region("adventurer-assets", 200, 407, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 250, 407, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 300, 407, 50, 37),
+                    SpriteRegions.region("adventurer-assets", 0, 444, 50, 37)
             }));
         }};
         for (TextureRegion textureRegion : adventurerAnimations.get(AdventurerState.HANG).textureRegions) {
@@ -258,6 +297,10 @@ public class Adventurer extends GameEntity {
 
     public void setBodyInert(boolean bodyInert) { this.bodyInert = bodyInert; }
 
+    public boolean isBodyInert() { return bodyInert; }
+
+    public boolean isCrouched() { return size.height != initialSize.height; }
+
     public void setBodyState(BodyState bodyState) { this.bodyState = bodyState; }
 
     public BodyState getBodyState() { return bodyState; }
@@ -289,12 +332,30 @@ public class Adventurer extends GameEntity {
         return animation.getKeyFrame(stateTime, adventurerAnimations.get(adventurerState).repeat);
     }
 
+    public TextureRegion getAnimationFrame(AdventurerState adventurerState, float stateTime) {
+        AdventurerAnimation adventurerAnimation = adventurerAnimations.get(adventurerState);
+        int frameNumber = (int) (stateTime / adventurerAnimation.duration);
+        if (adventurerAnimation.repeat)
+            frameNumber %= adventurerAnimation.textureRegions.length;
+        else
+            frameNumber = Math.min(frameNumber, adventurerAnimation.textureRegions.length - 1);
+        return adventurerAnimation.textureRegions[frameNumber];
+    }
+
     public void setPosition(Vector2 position) { body.setTransform(position, body.getAngle()); }
 
     public boolean getCanJumpState() { return canJump; }
 
     public void setCanJumpState(boolean state) { this.canJump = state; }
 
+    public Rectangle getBounds(Rectangle bounds) {
+        return bounds.set(getX() - size.width / 2.0f, getY() - size.height / 2.0f, size.width, size.height);
+    }
+
+    public float getRenderX() { return transform.getX() * PIXELS_PER_METER; }
+
+    public float getRenderY() { return transform.getY() * PIXELS_PER_METER; }
+
     public float getX() { return body.getPosition().x * PIXELS_PER_METER; }
 
     public float getY() { return body.getPosition().y * PIXELS_PER_METER; }
@@ -328,7 +389,7 @@ public class Adventurer extends GameEntity {
     public void interactWithKeyboard() {
         velocityX = 0;
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.UP) && adventurerState != AdventurerState.JUMP && adventurerState != AdventurerState.CROUCHING && adventurerState != AdventurerState.CLIMB && bodyState == BodyState.LANDED && canJump) {
+        if (inputProcessor.isKeyJustPressed(Input.Keys.UP) && adventurerState != AdventurerState.JUMP && adventurerState != AdventurerState.CROUCHING && adventurerState != AdventurerState.CLIMB && bodyState == BodyState.LANDED && canJump) {
             if (adventurerState != AdventurerState.HANG) {
                 setState(AdventurerState.JUMP);
                 float force = body.getMass() * 25;
@@ -337,7 +398,7 @@ public class Adventurer extends GameEntity {
             }
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.UP)) {
+        if (inputProcessor.isKeyJustPressed(Input.Keys.UP)) {
             if (adventurerState == AdventurerState.HANG) {
                 if (objectInHands != null) {
                     if (objectInHands instanceof Body) {
@@ -350,7 +411,7 @@ public class Adventurer extends GameEntity {
             }
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.DOWN)) {
+        if (inputProcessor.isKeyJustPressed(Input.Keys.DOWN)) {
             if (adventurerState == AdventurerState.HANG) {
                 if (objectInHands != null) {
                     if (objectInHands instanceof Body) {
@@ -363,7 +424,7 @@ public class Adventurer extends GameEntity {
             }
         }
 
-        if (Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
+        if (inputProcessor.isKeyPressed(Input.Keys.DOWN)) {
             if (bodyState == BodyState.LANDED && adventurerState != AdventurerState.CROUCHING && adventurerState != AdventurerState.HANG && adventurerState != AdventurerState.CLIMB) {
                 setState(AdventurerState.CROUCHING);
                 size.height /= 2;
@@ -374,17 +435,17 @@ public class Adventurer extends GameEntity {
         }
 
         if (adventurerState == AdventurerState.CROUCHING) {
-            if (!inputProcessor.keysStates.get(Input.Keys.DOWN)) {
+            if (!inputProcessor.isKeyPressed(Input.Keys.DOWN)) {
                 isCrouching = true;
                 boolean underGround = false;
-                for (GameMapObject mapObject : level.getMapObjects()) {
-                    if (mapObject instanceof Ground) {
-                        Ground ground = (Ground) mapObject;
-                        if (Intersector.overlapConvexPolygons(new Polygon(BodyHelper.getBodyVertices(body)), new Polygon(BodyHelper.getBodyVertices(ground.getBody())))) {
-                            underGround = body.getPosition().y - size.height / 2.0f / PIXELS_PER_METER + size.height * 2 / PIXELS_PER_METER > ground.getPosition().y && body.getPosition().y + size.height / 2.0f / PIXELS_PER_METER <= ground.getPosition().y;
-                            if (underGround)
-                                break;
-                        }
+                getBounds(queryArea);
+                queryArea.set(queryArea.x - SPATIAL_QUERY_MARGIN, queryArea.y - SPATIAL_QUERY_MARGIN, queryArea.width + 2 * SPATIAL_QUERY_MARGIN, queryArea.height + 2 * SPATIAL_QUERY_MARGIN);
+                level.getGrounds().query(queryArea, nearbyGrounds);
+                for (Ground ground : nearbyGrounds) {
+                    if (level.getBoundsStore().overlaps(ground.getBoundsSlot(), BodyHelper.getBodyBounds(body, bounds))) {
+                        underGround = body.getPosition().y - size.height / 2.0f / PIXELS_PER_METER + size.height * 2 / PIXELS_PER_METER > ground.getPosition().y && body.getPosition().y + size.height / 2.0f / PIXELS_PER_METER <= ground.getPosition().y;
+                        if (underGround)
+                            break;
                     }
                 }
 
@@ -395,20 +456,17 @@ public class Adventurer extends GameEntity {
                     BodyHelper.resizeBody(body, new Dimension(size.width, size.height));
                     speed /= 0.5;
                     isCrouching = false;
-                    for (GameMapObject mapObject : level.getMapObjects()) {
-                        if (mapObject instanceof Ground) {
-                            Ground ground = (Ground) mapObject;
-                            if (Intersector.overlapConvexPolygons(new Polygon(BodyHelper.getBodyVertices(body)), new Polygon(BodyHelper.getBodyVertices(ground.getBody())))) {
-                                underGround = body.getPosition().y + size.height / 2.0f / PIXELS_PER_METER > ground.getPosition().y && body.getPosition().y <= ground.getPosition().y;
-                                if (underGround) {
-                                    setState(AdventurerState.CROUCHING);
-                                    isCrouching = true;
-                                    size.height /= 2;
-                                    body.setTransform(new Vector2(body.getPosition().x, body.getPosition().y - size.height / 2.0f / PIXELS_PER_METER), 0);
-                                    BodyHelper.resizeBody(body, new Dimension(size.width, size.height));
-                                    speed *= 0.5;
-                                    break;
-                                }
+                    for (Ground ground : nearbyGrounds) {
+                        if (level.getBoundsStore().overlaps(ground.getBoundsSlot(), BodyHelper.getBodyBounds(body, bounds))) {
+                            underGround = body.getPosition().y + size.height / 2.0f / PIXELS_PER_METER > ground.getPosition().y && body.getPosition().y <= ground.getPosition().y;
+                            if (underGround) {
+                                setState(AdventurerState.CROUCHING);
+                                isCrouching = true;
+                                size.height /= 2;
+                                body.setTransform(new Vector2(body.getPosition().x, body.getPosition().y - size.height / 2.0f / PIXELS_PER_METER), 0);
+                                BodyHelper.resizeBody(body, new Dimension(size.width, size.height));
+                                speed *= 0.5;
+                                break;
                             }
                         }
                     }
@@ -416,7 +474,7 @@ public class Adventurer extends GameEntity {
             }
         }
 
-        if (inputProcessor.keysStates.get(Input.Keys.SHIFT_LEFT)) {
+        if (inputProcessor.isKeyPressed(Input.Keys.SHIFT_LEFT)) {
             if (adventurerState != AdventurerState.HANG) {
                 if (objectInHands == null) {
                     if (lastContact instanceof Body) {
@@ -439,9 +497,11 @@ public class Adventurer extends GameEntity {
             }
         }
 
-        if (!inputProcessor.keysStates.get(Input.Keys.SHIFT_LEFT) && inputProcessor.lastKeycode == Input.Keys.SHIFT_LEFT) {
+        if (!inputProcessor.isKeyPressed(Input.Keys.SHIFT_LEFT) && inputProcessor.lastKeycode == Input.Keys.SHIFT_LEFT) {
             if (objectInHands != null && objectInHands instanceof Body) {
-                body.setLinearVelocity(((Body) objectInHands).getLinearVelocity().x, ((Body) objectInHands).getLinearVelocity().y);
+                Body ropeItem = (Body) objectInHands;
+                Vector2 velocity = ((Rope) ropeItem.getUserData()).getPartVelocity(ropeItem, releaseVelocity);
+                body.setLinearVelocity(velocity.x, velocity.y);
                 bodyInert = true;
             }
             if (objectInHands != null && objectInHands instanceof Box) {
@@ -455,7 +515,7 @@ public class Adventurer extends GameEntity {
             }
         }
 
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
+        if (inputProcessor.isKeyPressed(Input.Keys.LEFT)) {
             if (adventurerState != AdventurerState.JUMP && adventurerState != AdventurerState.CROUCHING && adventurerState != AdventurerState.HANG) {
                 setState(AdventurerState.RUN);
                 crouchingSound.stop();
@@ -472,7 +532,7 @@ public class Adventurer extends GameEntity {
                 isCrouching = true;
             }
 
-            if (objectInHands != null && objectInHands instanceof Body && Gdx.input.isKeyJustPressed(Input.Keys.LEFT)) {
+            if (objectInHands != null && objectInHands instanceof Body && inputProcessor.isKeyJustPressed(Input.Keys.LEFT)) {
                 Rope rope = (Rope)((Body) objectInHands).getUserData();
                 rope.swing(new Vector2(-body.getMass() / 20.0f, 0));
             }
@@ -481,7 +541,7 @@ public class Adventurer extends GameEntity {
             velocityX = -1;
         }
 
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
+        if (inputProcessor.isKeyPressed(Input.Keys.RIGHT)) {
             if (adventurerState != AdventurerState.JUMP && adventurerState != AdventurerState.CROUCHING && adventurerState != AdventurerState.HANG) {
                 setState(AdventurerState.RUN);
                 crouchingSound.stop();
@@ -498,7 +558,7 @@ public class Adventurer extends GameEntity {
                 isCrouching = true;
             }
 
-            if (objectInHands != null && objectInHands instanceof Body && Gdx.input.isKeyJustPressed(Input.Keys.RIGHT)) {
+            if (objectInHands != null && objectInHands instanceof Body && inputProcessor.isKeyJustPressed(Input.Keys.RIGHT)) {
                 Rope rope = (Rope)((Body) objectInHands).getUserData();
                 rope.swing(new Vector2(body.getMass() / 20.0f, 0));
             }
@@ -508,12 +568,12 @@ public class Adventurer extends GameEntity {
         }
 
 
-        if (isRunning && !inputProcessor.keysStates.get(Input.Keys.LEFT) && !inputProcessor.keysStates.get(Input.Keys.RIGHT)) {
+        if (isRunning && !inputProcessor.isKeyPressed(Input.Keys.LEFT) && !inputProcessor.isKeyPressed(Input.Keys.RIGHT)) {
             isRunning = false;
             runSound.stop();
         }
 
-        if (isCrouching && !inputProcessor.keysStates.get(Input.Keys.LEFT) && !inputProcessor.keysStates.get(Input.Keys.RIGHT)) {
+        if (isCrouching && !inputProcessor.isKeyPressed(Input.Keys.LEFT) && !inputProcessor.isKeyPressed(Input.Keys.RIGHT)) {
             isCrouching = false;
             crouchingSound.stop();
         }
@@ -4,12 +4,31 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.FloatArray;
 import helper.BodyHelper;
+import helper.InterpolatedTransform;
 
 import java.awt.*;
 
 public abstract class GameEntity {
 
+    public static class FootSensor {
+        private final GameEntity entity;
+        private int groundContacts;
+
+        public FootSensor(GameEntity entity) {
+            this.entity = entity;
+        }
+
+        public void beginGroundContact() { groundContacts++; }
+
+        public void endGroundContact() { groundContacts = Math.max(0, groundContacts - 1); }
+
+        public int getGroundContacts() { return groundContacts; }
+
+        public GameEntity getEntity() { return entity; }
+    }
+
     protected Vector2 position;
     protected Dimension size;
     protected float velocityX;
@@ -17,12 +36,16 @@ public abstract class GameEntity {
     protected float speed;
     protected Body body;
     protected World world;
+    protected final FootSensor footSensor;
+    protected final InterpolatedTransform transform = new InterpolatedTransform();
 
     public GameEntity(Vector2 position, Dimension size, World world) {
         this.position = position;
         this.size = size;
         this.world = world;
         this.body = BodyHelper.createBody(position, size, false, true, world, this);
+        this.footSensor = new FootSensor(this);
+        BodyHelper.createFootSensor(body, size, footSensor);
     }
 
     public abstract void update();
@@ -30,4 +53,12 @@ public abstract class GameEntity {
     public abstract void render(SpriteBatch batch);
 
     public Body getBody() { return body; }
+
+    public void savePreviousState() { transform.save(body); }
+
+    public void writeRenderState(FloatArray out) { transform.write(body, out); }
+
+    public void readRenderState(float[] data, int offset, float alpha) { transform.read(data, offset, alpha); }
+
+    public boolean isOnGround() { return footSensor.getGroundContacts() > 0; }
 }
@@ -0,0 +1,89 @@
+package objects.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.utils.Array;
+import helper.BoundsStore;
+import levels.GameLevel;
+import objects.components.Mappers;
+import objects.elements.Box;
+import objects.elements.GameMapObject;
+import objects.elements.Ground;
+import objects.elements.Rope;
+import objects.player.Adventurer;
+
+import static helper.Constants.PIXELS_PER_METER;
+
+public class CarrySystem extends EntitySystem {
+
+    private final GameLevel level;
+    private final ProximitySystem proximitySystem;
+
+    public CarrySystem(GameLevel level, ProximitySystem proximitySystem, int priority) {
+        super(priority);
+        this.level = level;
+        this.proximitySystem = proximitySystem;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        Adventurer adventurer = level.getAdventurer();
+        Object objectInHands = adventurer.objectInHands;
+        Object held = objectInHands instanceof Body ? ((Body) objectInHands).getUserData() : objectInHands;
+        if (!(held instanceof GameMapObject))
+            return;
+        GameMapObject carried = (GameMapObject) held;
+        Entity entity = carried.getEntity();
+        if (entity == null || !Mappers.carryable.has(entity))
+            return;
+        if (carried instanceof Rope)
+            clampRope(adventurer, (Body) objectInHands, (Rope) carried);
+        else if (carried instanceof Box && adventurer.getState() != Adventurer.AdventurerState.CROUCHING)
+            clampBox(adventurer, (Box) carried);
+    }
+
+    private void clampRope(Adventurer adventurer, Body objectInHandsBody, Rope rope) {
+        BoundsStore boundsStore = level.getBoundsStore();
+        Array<Ground> nearbyGrounds = proximitySystem.getNearbyGrounds();
+        int adventurerSlot = level.updateAdventurerBounds();
+        for (Ground ground : nearbyGrounds) {
+            if (boundsStore.overlaps(adventurerSlot, ground.getBoundsSlot())) {
+                int adventurerDirectionCoefficient = 0;
+                if (adventurer.getBody().getPosition().y - adventurer.getHeight() / 2.0f / PIXELS_PER_METER > ground.getPosition().y + ground.getDimension().height / PIXELS_PER_METER || adventurer.getBody().getPosition().y + adventurer.getHeight() / 2.0f / PIXELS_PER_METER < ground.getPosition().y) {
+                    if (adventurer.getBody().getPosition().y > ground.getPosition().y) {
+                        rope.setPartPosition(objectInHandsBody, objectInHandsBody.getPosition().x, Math.max(objectInHandsBody.getPosition().y, ground.getPosition().y + ground.getDimension().height / PIXELS_PER_METER + adventurer.getHeight() / PIXELS_PER_METER + rope.getPartSize().height / 2.0f / PIXELS_PER_METER));
+                    } else {
+                        rope.setPartPosition(objectInHandsBody, objectInHandsBody.getPosition().x, Math.min(objectInHandsBody.getPosition().y, ground.getPosition().y - adventurer.getHeight() / PIXELS_PER_METER + rope.getPartSize().height / 2.0f / PIXELS_PER_METER));
+                    }
+                } else {
+                    if (adventurer.getBody().getPosition().x > ground.getPosition().x + ground.getDimension().width / 2.0f / PIXELS_PER_METER) {
+                        adventurerDirectionCoefficient = adventurer.getDirection() == Adventurer.AdventurerDirection.LEFT ? 1 : 0;
+                        rope.setPartPosition(objectInHandsBody, Math.max(ground.getPosition().x + ground.getDimension().width / PIXELS_PER_METER + adventurerDirectionCoefficient * adventurer.getWidth() / PIXELS_PER_METER, objectInHandsBody.getPosition().x), objectInHandsBody.getPosition().y);
+                    } else {
+                        adventurerDirectionCoefficient = adventurer.getDirection() == Adventurer.AdventurerDirection.LEFT ? 0 : 1;
+                        rope.setPartPosition(objectInHandsBody, Math.min(ground.getPosition().x - adventurerDirectionCoefficient * adventurer.getWidth() / PIXELS_PER_METER, objectInHandsBody.getPosition().x), objectInHandsBody.getPosition().y);
+                    }
+                }
+            }
+        }
+    }
+
+    private void clampBox(Adventurer adventurer, Box box) {
+        BoundsStore boundsStore = level.getBoundsStore();
+        Array<Ground> nearbyGrounds = proximitySystem.getNearbyGrounds();
+        for (Ground ground : nearbyGrounds) {
+            if (boundsStore.overlaps(box.getBoundsSlot(), ground.getBoundsSlot())) {
+                Vector2 position = ground.getBody().getType() == BodyDef.BodyType.DynamicBody ? new Vector2(ground.getBody().getPosition().x - ground.getDimension().width / 2.0f / PIXELS_PER_METER, ground.getBody().getPosition().y - ground.getDimension().height / 2.0f / PIXELS_PER_METER) : ground.getPosition();
+                if (box.getBody().getPosition().x - box.getDimension().width / 2.0f / PIXELS_PER_METER < position.x && adventurer.getBody().getPosition().x < position.x) {
+                    adventurer.getBody().setTransform(new Vector2(Math.min(position.x - box.getDimension().width / PIXELS_PER_METER - adventurer.getWidth() / 2.0f / PIXELS_PER_METER, position.x), adventurer.getBody().getPosition().y), 0);
+                } else {
+                    if (adventurer.getBody().getPosition().x > position.x)
+                        adventurer.getBody().setTransform(new Vector2(Math.max(position.x + ground.getDimension().width / PIXELS_PER_METER + box.getDimension().width / PIXELS_PER_METER + adventurer.getWidth() / 2.0f / PIXELS_PER_METER, position.x), adventurer.getBody().getPosition().y), 0);
+                }
+            }
+        }
+    }
+}
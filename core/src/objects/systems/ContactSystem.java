@@ -0,0 +1,18 @@
+package objects.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import objects.components.ContactComponent;
+
+public class ContactSystem extends IteratingSystem {
+
+    public ContactSystem(int priority) {
+        super(Family.all(ContactComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        entity.remove(ContactComponent.class);
+    }
+}
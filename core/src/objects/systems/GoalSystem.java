@@ -0,0 +1,23 @@
+package objects.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import levels.GameLevel;
+import objects.components.ContactComponent;
+import objects.components.GoalComponent;
+
+public class GoalSystem extends IteratingSystem {
+
+    private final GameLevel level;
+
+    public GoalSystem(GameLevel level, int priority) {
+        super(Family.all(GoalComponent.class, ContactComponent.class).get(), priority);
+        this.level = level;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        level.finishLevel();
+    }
+}
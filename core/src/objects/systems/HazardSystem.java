@@ -0,0 +1,47 @@
+package objects.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+import helper.BodyHelper;
+import levels.GameLevel;
+import objects.components.ContactComponent;
+import objects.components.HazardComponent;
+import objects.components.Mappers;
+import objects.components.TransformComponent;
+import objects.player.Adventurer;
+
+import java.awt.*;
+
+import static helper.Constants.PIXELS_PER_METER;
+
+public class HazardSystem extends IteratingSystem {
+
+    private final GameLevel level;
+
+    public HazardSystem(GameLevel level, int priority) {
+        super(Family.all(HazardComponent.class, TransformComponent.class, ContactComponent.class).get(), priority);
+        this.level = level;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        HazardComponent hazard = Mappers.hazard.get(entity);
+        TransformComponent transform = Mappers.transform.get(entity);
+        Adventurer adventurer = level.getAdventurer();
+        int bodyDirectionCoefficient = (adventurer.getBody().getPosition().x <= transform.getCenterX()) ? -1 : 1;
+        adventurer.getBody().setLinearVelocity(new Vector2(0, 0));
+        adventurer.getBody().applyLinearImpulse(new Vector2(bodyDirectionCoefficient * adventurer.getBody().getMass() * hazard.knockbackX, adventurer.getBody().getMass() * hazard.knockbackY), adventurer.getBody().getPosition(), true);
+        adventurer.setBodyInert(true);
+        adventurer.setHealthPoints(adventurer.getHealthPoints() - hazard.damage);
+        Adventurer.damageSound.play(1.0f);
+        if (adventurer.getState() == Adventurer.AdventurerState.CROUCHING) {
+            adventurer.setState(Adventurer.AdventurerState.STAY);
+            adventurer.setSize(new Dimension(adventurer.getWidth(), adventurer.getHeight() * 2));
+            adventurer.getBody().setTransform(new Vector2(adventurer.getBody().getPosition().x, adventurer.getBody().getPosition().y + adventurer.getHeight() / 4.0f / PIXELS_PER_METER), 0);
+            BodyHelper.resizeBody(adventurer.getBody(), new Dimension(adventurer.getWidth(), adventurer.getHeight()));
+            adventurer.setSpeed(adventurer.getSpeed() / 0.5f);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package objects.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Vector2;
+import helper.BoundsStore;
+import levels.GameLevel;
+import objects.components.ClimbableComponent;
+import objects.components.MapObjectComponent;
+import objects.components.Mappers;
+import objects.components.TransformComponent;
+import objects.elements.Ladder;
+import objects.player.Adventurer;
+
+import static helper.Constants.PIXELS_PER_METER;
+
+public class LadderSystem extends EntitySystem {
+
+    private final GameLevel level;
+    private final ProximitySystem proximitySystem;
+    private ImmutableArray<Entity> ladders;
+
+    public LadderSystem(GameLevel level, ProximitySystem proximitySystem, int priority) {
+        super(priority);
+        this.level = level;
+        this.proximitySystem = proximitySystem;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        ladders = engine.getEntitiesFor(Family.all(ClimbableComponent.class, TransformComponent.class, MapObjectComponent.class).get());
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        Adventurer adventurer = level.getAdventurer();
+        BoundsStore boundsStore = level.getBoundsStore();
+        if (adventurer.getState() != Adventurer.AdventurerState.HANG) {
+            for (int i = 0; i < ladders.size(); i++) {
+                Entity entity = ladders.get(i);
+                int ladderSlot = Mappers.mapObject.get(entity).object.getBoundsSlot();
+                if (!boundsStore.overlaps(ladderSlot, proximitySystem.getQueryArea()))
+                    continue;
+                TransformComponent ladder = Mappers.transform.get(entity);
+                int adventurerSlot = level.updateAdventurerBounds();
+                int velocityY = 0;
+                float speed = 4f;
+                if (boundsStore.overlaps(adventurerSlot, ladderSlot)) {
+                    if (adventurer.inputProcessor.isKeyPressed(Input.Keys.UP) || adventurer.inputProcessor.isKeyPressed(Input.Keys.DOWN)) {
+                        if (adventurer.getState() != Adventurer.AdventurerState.CLIMB && adventurer.getState() != Adventurer.AdventurerState.CROUCHING) {
+                            adventurer.setState(Adventurer.AdventurerState.CLIMB);
+                            adventurer.setCanJumpState(false);
+                            adventurer.setBodyInert(false);
+                        }
+                        velocityY = (adventurer.inputProcessor.isKeyPressed(Input.Keys.UP)) ? 1 : -1;
+                    }
+                } else {
+                    if (adventurer.getState() == Adventurer.AdventurerState.CLIMB) {
+                        adventurer.setState(Adventurer.AdventurerState.STAY);
+                    }
+                }
+                if (adventurer.inputProcessor.isKeyJustPressed(Input.Keys.DOWN)) {
+                    if (boundsStore.contains(ladderSlot, adventurer.getBody().getPosition().x * PIXELS_PER_METER, adventurer.getBody().getPosition().y * PIXELS_PER_METER - adventurer.getHeight() / 2.0f - 2)) {
+                        if (adventurer.getState() != Adventurer.AdventurerState.CLIMB && adventurer.getState() != Adventurer.AdventurerState.CROUCHING) {
+                            adventurer.setState(Adventurer.AdventurerState.CLIMB);
+                            adventurer.getBody().setTransform(new Vector2(ladder.getCenterX(), adventurer.getY() / PIXELS_PER_METER - 2 / PIXELS_PER_METER), adventurer.getBody().getAngle());
+                            adventurer.setCanJumpState(false);
+                        }
+                    }
+                }
+                if (adventurer.getState() == Adventurer.AdventurerState.CLIMB) {
+                    if (adventurer.getBody().getPosition().y - adventurer.getHeight() / 2.0f / PIXELS_PER_METER <= ladder.y + 4 / PIXELS_PER_METER && Mappers.climbable.get(entity).exitAtBottom) {
+                        adventurer.setState(Adventurer.AdventurerState.STAY);
+                    }
+                    adventurer.setIsRunning(true);
+                    adventurer.getBody().setTransform(new Vector2(ladder.getCenterX(), adventurer.getY() / PIXELS_PER_METER), adventurer.getBody().getAngle());
+                    adventurer.getBody().setLinearVelocity(adventurer.getBody().getLinearVelocity().x, velocityY * speed);
+                }
+            }
+        }
+
+        if (adventurer.getState() == Adventurer.AdventurerState.CLIMB) {
+            if (adventurer.inputProcessor.isKeyPressed(Input.Keys.DOWN) || adventurer.inputProcessor.isKeyPressed(Input.Keys.UP)) {
+                if (!adventurer.isOnLadder()) {
+                    Ladder.sound.loop(1.0f);
+                    adventurer.setOnLadder(true);
+                }
+            } else {
+                if (adventurer.isOnLadder()) {
+                    Ladder.sound.stop();
+                    adventurer.setOnLadder(false);
+                }
+            }
+        } else {
+            if (adventurer.isOnLadder()) {
+                Ladder.sound.stop();
+                adventurer.setOnLadder(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package objects.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import levels.GameLevel;
+import objects.components.CollectedComponent;
+import objects.components.ContactComponent;
+import objects.components.Mappers;
+import objects.components.PickupComponent;
+
+public class PickupSystem extends IteratingSystem {
+
+    private final GameLevel level;
+
+    public PickupSystem(GameLevel level, int priority) {
+        super(Family.all(PickupComponent.class, ContactComponent.class).exclude(CollectedComponent.class).get(), priority);
+        this.level = level;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PickupComponent pickup = Mappers.pickup.get(entity);
+        if (pickup.sound != null)
+            pickup.sound.play(1.0f);
+        level.setCollected(entity, true);
+    }
+}
@@ -0,0 +1,39 @@
+package objects.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import levels.GameLevel;
+import objects.elements.Ground;
+
+import static helper.Constants.PIXELS_PER_METER;
+import static helper.Constants.SPATIAL_QUERY_MARGIN;
+
+public class ProximitySystem extends EntitySystem {
+
+    private final GameLevel level;
+    private final Rectangle queryArea = new Rectangle();
+    private final Array<Ground> nearbyGrounds = new Array<>();
+
+    public ProximitySystem(GameLevel level, int priority) {
+        super(priority);
+        this.level = level;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        Vector2 adventurerPosition = level.getAdventurer().getBody().getPosition();
+        level.getActivationManager().update(level.getBoxes().getObjects(), adventurerPosition.x * PIXELS_PER_METER, adventurerPosition.y * PIXELS_PER_METER);
+        level.getActivationManager().update(level.getRopes().getObjects(), adventurerPosition.x * PIXELS_PER_METER, adventurerPosition.y * PIXELS_PER_METER);
+        level.getBoxes().updateDynamicObjects();
+        level.getRopes().updateDynamicObjects();
+        level.getAdventurer().getBounds(queryArea);
+        queryArea.set(queryArea.x - SPATIAL_QUERY_MARGIN, queryArea.y - SPATIAL_QUERY_MARGIN, queryArea.width + 2 * SPATIAL_QUERY_MARGIN, queryArea.height + 2 * SPATIAL_QUERY_MARGIN);
+        level.getGrounds().query(queryArea, nearbyGrounds);
+    }
+
+    public Rectangle getQueryArea() { return queryArea; }
+
+    public Array<Ground> getNearbyGrounds() { return nearbyGrounds; }
+}
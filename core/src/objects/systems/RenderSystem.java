@@ -0,0 +1,75 @@
+package objects.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.SortedIteratingSystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import helper.RenderSnapshot;
+import objects.components.CollectedComponent;
+import objects.components.MapObjectComponent;
+import objects.components.Mappers;
+import objects.components.SpriteComponent;
+import objects.elements.GameMapObject;
+
+import java.util.Comparator;
+
+public class RenderSystem extends SortedIteratingSystem {
+
+    private static final Comparator<Entity> layerComparator = new Comparator<Entity>() {
+        @Override
+        public int compare(Entity first, Entity second) {
+            return Integer.compare(Mappers.sprite.get(first).layer, Mappers.sprite.get(second).layer);
+        }
+    };
+
+    private int renderedObjects;
+    private int culledObjects;
+
+    public RenderSystem(int priority) {
+        super(Family.all(SpriteComponent.class, MapObjectComponent.class).exclude(CollectedComponent.class).get(), layerComparator, priority);
+        setProcessing(false);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) { }
+
+    public void savePreviousStates() {
+        ImmutableArray<Entity> entities = getEntities();
+        for (int i = 0; i < entities.size(); i++) {
+            Mappers.mapObject.get(entities.get(i)).object.savePreviousState();
+        }
+    }
+
+    public void writeRenderState(RenderSnapshot snapshot) {
+        ImmutableArray<Entity> entities = getEntities();
+        for (int i = 0; i < entities.size(); i++) {
+            GameMapObject object = Mappers.mapObject.get(entities.get(i)).object;
+            snapshot.objects.add(object);
+            snapshot.offsets.add(snapshot.transforms.size);
+            object.writeRenderState(snapshot.transforms);
+        }
+    }
+
+    public void render(SpriteBatch batch, RenderSnapshot snapshot, Rectangle viewBounds, float alpha, float stateTime) {
+        Array<GameMapObject> objects = snapshot.objects;
+        renderedObjects = 0;
+        culledObjects = 0;
+        for (int i = 0; i < objects.size; i++) {
+            GameMapObject object = objects.get(i);
+            object.readRenderState(snapshot.transforms.items, snapshot.offsets.get(i), alpha);
+            if (!object.getRenderBounds().overlaps(viewBounds)) {
+                culledObjects++;
+                continue;
+            }
+            object.render(batch, stateTime);
+            renderedObjects++;
+        }
+    }
+
+    public int getRenderedObjects() { return renderedObjects; }
+
+    public int getCulledObjects() { return culledObjects; }
+}
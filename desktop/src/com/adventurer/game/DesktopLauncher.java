@@ -4,6 +4,9 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import com.adventurer.game.AdventurerGame;
+import objects.elements.Rope;
+
+import java.io.File;
 
 // Please note that on macOS your application needs to be started with the -XstartOnFirstThread JVM argument
 public class DesktopLauncher {
@@ -14,6 +17,22 @@ public class DesktopLauncher {
 		config.setWindowSizeLimits(500, 500, 1920, 1080);
 		//config.setWindowedMode(1920, 1080);
 		config.setFullscreenMode(Lwjgl3ApplicationConfiguration.getDisplayMode());
-		new Lwjgl3Application(new AdventurerGame(), config);
+		AdventurerGame game = new AdventurerGame();
+		game.simulationThreadEnabled = Boolean.getBoolean("adventurer.simulationThread");
+		game.recordPath = absolutePath(System.getProperty("adventurer.record"));
+		game.playbackPath = absolutePath(System.getProperty("adventurer.playback"));
+		if ("verlet".equalsIgnoreCase(System.getProperty("adventurer.ropes")))
+			game.ropeMode = Rope.SimulationMode.VERLET;
+		if (!"off".equals(System.getProperty("adventurer.metrics")))
+			game.metricsPath = absolutePath(System.getProperty("adventurer.metrics", "metrics"));
+		if (game.playbackPath != null) {
+			config.setForegroundFPS(0);
+			config.useVsync(false);
+		}
+		new Lwjgl3Application(game, config);
+	}
+
+	private static String absolutePath(String path) {
+		return path == null ? null : new File(path).getAbsolutePath();
 	}
 }
@@ -0,0 +1,89 @@
+package com.adventurer.game;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.utils.IntArray;
+import helper.CustomInputProcessor;
+import helper.InputPlayback;
+
+import java.io.File;
+import java.util.concurrent.ForkJoinPool;
+
+public class HeadlessLauncher {
+
+    public static void main(String[] arg) {
+        final IntArray levels = new IntArray();
+        final LevelSolver.Settings settings = new LevelSolver.Settings();
+        int threads = Runtime.getRuntime().availableProcessors();
+        String playbackPath = null;
+        for (int i = 0; i < arg.length; i++) {
+            switch (arg[i]) {
+                case "--max-nodes":
+                    settings.maxNodes = Integer.parseInt(arg[++i]);
+                    break;
+                case "--max-depth":
+                    settings.maxDepth = Integer.parseInt(arg[++i]);
+                    break;
+                case "--segment-ticks":
+                    settings.segmentTicks = Integer.parseInt(arg[++i]);
+                    break;
+                case "--playback":
+                    playbackPath = new File(arg[++i]).getAbsolutePath();
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(arg[++i]);
+                    break;
+                default:
+                    levels.add(Integer.parseInt(arg[i]));
+            }
+        }
+        if (levels.size == 0)
+            levels.addAll(1, 2, 3, 4, 5);
+
+        final int parallelism = threads;
+        final String playback = playbackPath;
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+            private boolean allSolvable = true;
+
+            @Override
+            public void create() {
+                if (playback != null) {
+                    replay(playback);
+                    Gdx.app.exit();
+                    return;
+                }
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                for (int i = 0; i < levels.size; i++) {
+                    LevelSolver.Result result = new LevelSolver(levels.get(i), settings).solve(pool);
+                    Gdx.app.log("LevelSolver", result.toString());
+                    allSolvable &= result.finishReachable;
+                }
+                pool.shutdown();
+                Gdx.app.exit();
+            }
+
+            @Override
+            public void dispose() {
+                System.exit(allSolvable ? 0 : 1);
+            }
+        }, config);
+    }
+
+    private static void replay(String path) {
+        InputPlayback playback = new InputPlayback(Gdx.files.absolute(path));
+        CustomInputProcessor inputProcessor = new CustomInputProcessor();
+        inputProcessor.startPlayback(playback);
+        GameScreen gameScreen = new GameScreen(playback.getLevelId(), inputProcessor);
+        while (!playback.isFinished() && !gameScreen.getLevel().isFinished()) {
+            long tickStart = System.nanoTime();
+            gameScreen.tick();
+            playback.addFrameTime(System.nanoTime() - tickStart);
+        }
+        Gdx.app.log("InputPlayback", playback.getSummary() + (gameScreen.getLevel().isFinished() ? ", level finished" : ""));
+        gameScreen.getWorld().dispose();
+    }
+}
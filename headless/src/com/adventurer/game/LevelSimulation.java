@@ -0,0 +1,83 @@
+package com.adventurer.game;
+
+import com.badlogic.gdx.Input;
+import helper.CustomInputProcessor;
+import levels.GameLevel;
+import objects.player.Adventurer;
+
+import static helper.Constants.PIXELS_PER_METER;
+
+public class LevelSimulation {
+
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int UP = 1 << 2;
+    public static final int DOWN = 1 << 3;
+    public static final int SHIFT = 1 << 4;
+
+    private static final int[] keys = new int[] {
+            Input.Keys.LEFT,
+            Input.Keys.RIGHT,
+            Input.Keys.UP,
+            Input.Keys.DOWN,
+            Input.Keys.SHIFT_LEFT
+    };
+
+    private final CustomInputProcessor inputProcessor = new CustomInputProcessor();
+    private final GameScreen gameScreen;
+    private final GameLevel level;
+    private int heldKeys;
+
+    public LevelSimulation(int levelId) {
+        this.gameScreen = new GameScreen(levelId, inputProcessor);
+        this.level = gameScreen.getLevel();
+    }
+
+    public void press(int keyMask) {
+        for (int i = 0; i < keys.length; i++) {
+            if ((keyMask & (1 << i)) != 0) {
+                if ((heldKeys & (1 << i)) != 0)
+                    inputProcessor.keyUp(keys[i]);
+                inputProcessor.keyDown(keys[i]);
+            }
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if ((heldKeys & (1 << i)) != 0 && (keyMask & (1 << i)) == 0)
+                inputProcessor.keyUp(keys[i]);
+        }
+        heldKeys = keyMask;
+    }
+
+    public void run(int ticks) {
+        for (int i = 0; i < ticks && !isOver(); i++) {
+            gameScreen.tick();
+        }
+    }
+
+    public boolean isOver() { return isFinished() || isDead(); }
+
+    public boolean isFinished() { return level.isFinished(); }
+
+    public boolean isDead() {
+        Adventurer adventurer = level.getAdventurer();
+        return adventurer.getState() == Adventurer.AdventurerState.DEAD || adventurer.getBody().getPosition().y < 0;
+    }
+
+    public int getCoinsCollected() { return level.getCoinsCollected(); }
+
+    public int getTotalCoins() { return level.getTotalCoins(); }
+
+    public long getStateKey(float cellSize) {
+        Adventurer adventurer = level.getAdventurer();
+        long cellX = (long) (adventurer.getBody().getPosition().x * PIXELS_PER_METER / cellSize) & 0xFFFF;
+        long cellY = (long) (adventurer.getBody().getPosition().y * PIXELS_PER_METER / cellSize) & 0xFFFF;
+        long coins = level.getCoinsCollected() & 0xFF;
+        long state = adventurer.getState().ordinal() & 0xF;
+        long holding = adventurer.objectInHands != null ? 1 : 0;
+        return cellX | cellY << 16 | coins << 32 | state << 40 | holding << 44;
+    }
+
+    public void dispose() {
+        gameScreen.getWorld().dispose();
+    }
+}
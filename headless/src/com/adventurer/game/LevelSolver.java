@@ -0,0 +1,162 @@
+package com.adventurer.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.adventurer.game.LevelSimulation.*;
+
+public class LevelSolver {
+
+    private static final int[] actions = new int[] {
+            RIGHT,
+            RIGHT | UP,
+            LEFT,
+            LEFT | UP,
+            UP,
+            DOWN,
+            0,
+            SHIFT,
+            SHIFT | RIGHT,
+            SHIFT | LEFT,
+            SHIFT | UP,
+            SHIFT | DOWN
+    };
+
+    public static class Settings {
+        public int segmentTicks = 15;
+        public int maxDepth = 80;
+        public int maxNodes = 20000;
+        public float cellSize = 16;
+    }
+
+    public static class Result {
+        public final int levelId;
+        public int totalCoins;
+        public int coinsCollected;
+        public boolean finishReachable;
+        public int finishCoins;
+        public byte[] finishPath;
+        public int exploredNodes;
+        public boolean budgetExhausted;
+
+        public Result(int levelId) {
+            this.levelId = levelId;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            builder.append("Level").append(levelId).append(": finish ").append(finishReachable ? "reachable" : "NOT reachable");
+            builder.append(", coins ").append(coinsCollected).append('/').append(totalCoins);
+            if (finishReachable)
+                builder.append(" (").append(finishCoins).append(" on the first finishing path, ").append(finishPath.length).append(" segments)");
+            builder.append(", ").append(exploredNodes).append(" segments simulated");
+            if (budgetExhausted)
+                builder.append(", search budget exhausted");
+            return builder.toString();
+        }
+    }
+
+    private final int levelId;
+    private final Settings settings;
+    private final Result result;
+    private final Set<Long> visited = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nodes = new AtomicInteger();
+    private final AtomicBoolean stopped = new AtomicBoolean();
+
+    public LevelSolver(int levelId, Settings settings) {
+        this.levelId = levelId;
+        this.settings = settings;
+        this.result = new Result(levelId);
+    }
+
+    public Result solve(ForkJoinPool pool) {
+        pool.invoke(new ExploreTask(new byte[0]));
+        result.exploredNodes = Math.min(nodes.get(), settings.maxNodes);
+        result.budgetExhausted = nodes.get() > settings.maxNodes;
+        return result;
+    }
+
+    private synchronized void record(LevelSimulation simulation, byte[] path) {
+        result.totalCoins = simulation.getTotalCoins();
+        result.coinsCollected = Math.max(result.coinsCollected, simulation.getCoinsCollected());
+        if (simulation.isFinished() && !result.finishReachable) {
+            result.finishReachable = true;
+            result.finishCoins = simulation.getCoinsCollected();
+            result.finishPath = path;
+        }
+        if (result.finishReachable && result.coinsCollected == result.totalCoins)
+            stopped.set(true);
+    }
+
+    private static byte[] append(byte[] path, int action) {
+        byte[] next = Arrays.copyOf(path, path.length + 1);
+        next[path.length] = (byte) action;
+        return next;
+    }
+
+    private class ExploreTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] path;
+
+        ExploreTask(byte[] path) {
+            this.path = path;
+        }
+
+        @Override
+        protected void compute() {
+            if (stopped.get() || nodes.get() > settings.maxNodes)
+                return;
+            List<ExploreTask> forked = new ArrayList<>();
+            LevelSimulation simulation = new LevelSimulation(levelId);
+            try {
+                explore(simulation, forked);
+            } finally {
+                simulation.dispose();
+            }
+            for (int i = forked.size() - 1; i >= 0; i--) {
+                forked.get(i).join();
+            }
+        }
+
+        private void explore(LevelSimulation simulation, List<ExploreTask> forked) {
+            for (int i = 0; i < path.length - 1; i++) {
+                runSegment(simulation, path[i]);
+            }
+
+            byte[] current = path;
+            while (!stopped.get()) {
+                if (current.length > 0) {
+                    if (nodes.incrementAndGet() > settings.maxNodes)
+                        return;
+                    runSegment(simulation, current[current.length - 1]);
+                    record(simulation, current);
+                    if (simulation.isOver() || current.length >= settings.maxDepth)
+                        return;
+                    if (!visited.add(simulation.getStateKey(settings.cellSize)))
+                        return;
+                }
+                for (int action = actions.length - 1; action > 0; action--) {
+                    ExploreTask task = new ExploreTask(append(current, action));
+                    task.fork();
+                    forked.add(task);
+                }
+                current = append(current, 0);
+            }
+        }
+
+        private void runSegment(LevelSimulation simulation, int action) {
+            simulation.press(actions[action]);
+            simulation.run(settings.segmentTicks);
+        }
+    }
+}